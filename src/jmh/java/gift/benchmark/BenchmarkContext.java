@@ -0,0 +1,33 @@
+package gift.benchmark;
+
+import gift.Application;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+public final class BenchmarkContext {
+
+    private static final String[] DEFAULT_PROPERTIES = {
+            "server.port=0",
+            "spring.datasource.url=jdbc:h2:mem:benchmark;MODE=MYSQL;DB_CLOSE_DELAY=-1",
+            "spring.jpa.show-sql=false",
+            "logging.level.root=WARN",
+            "logging.level.org.hibernate.orm.jdbc.bind=OFF",
+            "jwt.secret-key=benchmark-secret-key-benchmark-secret-key",
+            "jwt.expired-time=3600000"
+    };
+
+    private BenchmarkContext() {
+    }
+
+    public static ConfigurableApplicationContext start(String... properties) {
+        return startWith(new Class<?>[0], properties);
+    }
+
+    public static ConfigurableApplicationContext startWith(Class<?>[] additionalSources, String... properties) {
+        return new SpringApplicationBuilder(Application.class)
+                .sources(additionalSources)
+                .properties(DEFAULT_PROPERTIES)
+                .properties(properties)
+                .run();
+    }
+}
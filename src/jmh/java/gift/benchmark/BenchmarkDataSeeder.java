@@ -0,0 +1,65 @@
+package gift.benchmark;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크용 H2 데이터베이스에 지정한 크기만큼 상품, 위시 리스트, 포인트 원장 데이터를 JDBC 배치로 채운다.
+ */
+public final class BenchmarkDataSeeder {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final String INSERT_PRODUCT_SQL = "insert into product(id, name, price, image_url, category_id, deleted, created_date, last_modified_date) values (next value for product_seq, ?, ?, ?, 1, false, ?, ?)";
+    private static final String INSERT_WISH_PRODUCT_SQL = "insert into wish_product(id, member_id, product_id, deleted, created_date, last_modified_date) values (next value for wish_product_seq, ?, ?, false, ?, ?)";
+    private static final String INSERT_MEMBER_POINT_SQL = "insert into member_point(id, member_id, point, deleted, created_date, last_modified_date) values (next value for member_point_seq, ?, ?, false, ?, ?)";
+    private static final String UPDATE_BALANCE_SQL = "update member_point_balance set balance = balance + ? where member_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public BenchmarkDataSeeder(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void seedProducts(int count) {
+        var now = now();
+        var batchArgs = new ArrayList<Object[]>();
+        for (int i = 0; i < count; i++) {
+            batchArgs.add(new Object[]{"벤치마크 상품 " + i, 1000 + i, "https://gift.kakao.com/product/" + i, now, now});
+        }
+        batchUpdate(INSERT_PRODUCT_SQL, batchArgs);
+    }
+
+    public void seedWishProducts(Long memberId, int count) {
+        var now = now();
+        var productIds = jdbcTemplate.queryForList("select id from product order by id desc limit ?", Long.class, count);
+        var batchArgs = productIds.stream()
+                .map(productId -> new Object[]{memberId, productId, now, now})
+                .toList();
+        batchUpdate(INSERT_WISH_PRODUCT_SQL, batchArgs);
+    }
+
+    public void seedMemberPoints(Long memberId, int count, int point) {
+        var now = now();
+        var batchArgs = new ArrayList<Object[]>();
+        for (int i = 0; i < count; i++) {
+            batchArgs.add(new Object[]{memberId, point, now, now});
+        }
+        batchUpdate(INSERT_MEMBER_POINT_SQL, batchArgs);
+        jdbcTemplate.update(UPDATE_BALANCE_SQL, (long) count * point, memberId);
+    }
+
+    private void batchUpdate(String sql, List<Object[]> batchArgs) {
+        for (int from = 0; from < batchArgs.size(); from += BATCH_SIZE) {
+            var to = Math.min(from + BATCH_SIZE, batchArgs.size());
+            jdbcTemplate.batchUpdate(sql, batchArgs.subList(from, to));
+        }
+    }
+
+    private Timestamp now() {
+        return Timestamp.valueOf(LocalDateTime.now());
+    }
+}
@@ -0,0 +1,120 @@
+package gift.benchmark;
+
+import gift.dto.option.OptionRequest;
+import gift.dto.point.PointCharge;
+import gift.dto.product.ProductAddRequest;
+import gift.dto.product.ProductResponse;
+import gift.service.MemberPointService;
+import gift.service.ProductService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 옵션 100개를 가진 상품 생성과 포인트 일괄 충전의 처리 시간을 측정한다.
+ * idIncrementSize=1, jdbcBatchSize=1 은 id 를 한 건씩 받아 한 건씩 삽입하던 이전 동작에 해당한다.
+ * 포인트 충전은 매 호출마다 잔액이 없는 회원들에게 충전해 잔액 행 생성까지 포함한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class EntityWriteBenchmark {
+
+    private static final int OPTION_COUNT = 100;
+    private static final int CHARGE_MEMBER_COUNT = 200;
+    private static final int CHARGES_PER_MEMBER = 5;
+    private static final String INSERT_MEMBER_SQL = "insert into member(id, name, email, password, member_role, deleted, created_date, last_modified_date) values (next value for member_seq, ?, ?, 'password', 'MEMBER', false, now(), now())";
+    private static final String DELETE_CHARGED_BALANCES_SQL = "delete from member_point_balance where member_id in (select id from member where email like 'charge%')";
+
+    @Param({"1", "50"})
+    private int idIncrementSize;
+    @Param({"1", "50"})
+    private int jdbcBatchSize;
+
+    private final AtomicInteger productSequence = new AtomicInteger();
+    private ConfigurableApplicationContext context;
+    private ProductService productService;
+    private MemberPointService memberPointService;
+    private JdbcTemplate jdbcTemplate;
+    private List<OptionRequest> options;
+    private List<PointCharge> pointCharges;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start(
+                "spring.jpa.properties.gift.id.increment-size=" + idIncrementSize,
+                "spring.jpa.properties.hibernate.jdbc.batch_size=" + jdbcBatchSize
+        );
+        productService = context.getBean(ProductService.class);
+        memberPointService = context.getBean(MemberPointService.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        options = createOptions();
+        pointCharges = createPointCharges(seedChargeMembers());
+    }
+
+    @Setup(Level.Invocation)
+    public void clearChargedBalances() {
+        jdbcTemplate.update(DELETE_CHARGED_BALANCES_SQL);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ProductResponse addProductWithOptions() {
+        var name = "벤치마크 상품 " + productSequence.incrementAndGet();
+        return productService.addProduct(new ProductAddRequest(name, 10000, "https://gift.kakao.com/product", 1L, options));
+    }
+
+    @Benchmark
+    public void addPoints() {
+        memberPointService.addPoints(pointCharges);
+    }
+
+    private List<OptionRequest> createOptions() {
+        var optionRequests = new ArrayList<OptionRequest>();
+        for (int i = 0; i < OPTION_COUNT; i++) {
+            optionRequests.add(new OptionRequest("옵션 " + i, 1000));
+        }
+        return optionRequests;
+    }
+
+    private List<Long> seedChargeMembers() {
+        var batchArgs = new ArrayList<Object[]>();
+        for (int i = 0; i < CHARGE_MEMBER_COUNT; i++) {
+            batchArgs.add(new Object[]{"charge" + i, "charge" + i + "@benchmark.com"});
+        }
+        jdbcTemplate.batchUpdate(INSERT_MEMBER_SQL, batchArgs);
+        return jdbcTemplate.queryForList("select id from member where email like 'charge%'", Long.class);
+    }
+
+    private List<PointCharge> createPointCharges(List<Long> memberIds) {
+        var charges = new ArrayList<PointCharge>();
+        for (int i = 0; i < CHARGES_PER_MEMBER; i++) {
+            memberIds.forEach(memberId -> charges.add(PointCharge.of(memberId, 100)));
+        }
+        return charges;
+    }
+}
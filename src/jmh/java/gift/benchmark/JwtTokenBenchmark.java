@@ -0,0 +1,107 @@
+package gift.benchmark;
+
+import gift.config.properties.JwtAlgorithm;
+import gift.config.properties.JwtProperties;
+import gift.model.Member;
+import gift.service.auth.JwtProvider;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.ReflectionUtils;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyPairGenerator;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 초당 토큰 생성/검증 횟수를 측정한다.
+ * LEGACY 는 호출마다 키와 파서를 새로 만들던 기존 방식이고, 나머지는 한 번 만든 키와 파서를 공유하는 JwtProvider 의 각 알고리즘이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Threads(8)
+@Fork(1)
+public class JwtTokenBenchmark {
+
+    private static final String SECRET_KEY = "benchmark-secret-key-benchmark-secret-key";
+    private static final Long EXPIRED_TIME = 3_600_000L;
+
+    @Param({"LEGACY", "HS256", "ES256", "EDDSA"})
+    private String mode;
+
+    private JwtProvider jwtProvider;
+    private Member member;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() throws GeneralSecurityException {
+        member = new Member("benchmark", "benchmark@naver.com", "benchmark");
+        var idField = ReflectionUtils.findField(Member.class, "id");
+        ReflectionUtils.makeAccessible(idField);
+        ReflectionUtils.setField(idField, member, 1L);
+        jwtProvider = new JwtProvider(createJwtProperties());
+        token = generateToken();
+    }
+
+    @Benchmark
+    public String generateToken() {
+        if (mode.equals("LEGACY")) {
+            return legacyGenerateToken();
+        }
+        return jwtProvider.generateToken(member);
+    }
+
+    @Benchmark
+    public Long verifyToken() {
+        if (mode.equals("LEGACY")) {
+            return legacyGetMemberIdWithToken();
+        }
+        return jwtProvider.getMemberIdWithToken(token);
+    }
+
+    private String legacyGenerateToken() {
+        return Jwts.builder()
+                .subject(member.getId().toString())
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + EXPIRED_TIME))
+                .signWith(Keys.hmacShaKeyFor(SECRET_KEY.getBytes()))
+                .compact();
+    }
+
+    private Long legacyGetMemberIdWithToken() {
+        var claims = Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(SECRET_KEY.getBytes()))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+        return Long.parseLong(claims.getSubject());
+    }
+
+    private JwtProperties createJwtProperties() throws GeneralSecurityException {
+        if (mode.equals("LEGACY") || mode.equals("HS256")) {
+            return new JwtProperties(SECRET_KEY, EXPIRED_TIME, 10000, JwtAlgorithm.HS256, null, null);
+        }
+        var algorithm = JwtAlgorithm.valueOf(mode);
+        var keyPair = KeyPairGenerator.getInstance(algorithm.getKeyAlgorithm()).generateKeyPair();
+        var privateKey = Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded());
+        var publicKey = Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded());
+        return new JwtProperties(null, EXPIRED_TIME, 10000, algorithm, privateKey, publicKey);
+    }
+}
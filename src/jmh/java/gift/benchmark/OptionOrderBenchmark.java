@@ -0,0 +1,108 @@
+package gift.benchmark;
+
+import gift.dto.giftorder.GiftOrderRequest;
+import gift.dto.option.OptionRequest;
+import gift.exception.NotFoundElementException;
+import gift.repository.OptionRepository;
+import gift.service.GiftOrderService;
+import gift.service.OptionService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 하나의 옵션에 동시 구매자 수(buyers)를 늘려가며 초당 주문 처리량을 측정한다.
+ * ATOMIC_UPDATE 는 현재의 조건부 UPDATE 경로, PESSIMISTIC_LOCK 은 기존의 비관적 락 경로이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class OptionOrderBenchmark {
+
+    private static final int ORDERS_PER_INVOCATION = 256;
+    private static final Long MEMBER_ID = 1L;
+    private static final Long PRODUCT_ID = 1L;
+
+    @Param({"1", "8", "64", "256"})
+    private int buyers;
+    @Param({"ATOMIC_UPDATE", "PESSIMISTIC_LOCK"})
+    private String stockPath;
+
+    private ConfigurableApplicationContext context;
+    private ExecutorService executorService;
+    private OptionService optionService;
+    private OptionRepository optionRepository;
+    private GiftOrderService giftOrderService;
+    private TransactionTemplate transactionTemplate;
+    private GiftOrderRequest giftOrderRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        executorService = Executors.newFixedThreadPool(buyers);
+        optionService = context.getBean(OptionService.class);
+        optionRepository = context.getBean(OptionRepository.class);
+        giftOrderService = context.getBean(GiftOrderService.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        var option = optionService.addOption(PRODUCT_ID, new OptionRequest("benchmark", 100_000_000));
+        giftOrderRequest = new GiftOrderRequest(option.id(), 1, "benchmark", 0);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executorService.shutdownNow();
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ORDERS_PER_INVOCATION)
+    public void orderOption() throws InterruptedException {
+        var countDownLatch = new CountDownLatch(ORDERS_PER_INVOCATION);
+        for (int i = 0; i < ORDERS_PER_INVOCATION; i++) {
+            executorService.execute(() -> {
+                try {
+                    order();
+                } finally {
+                    countDownLatch.countDown();
+                }
+            });
+        }
+        countDownLatch.await();
+    }
+
+    private void order() {
+        if (stockPath.equals("ATOMIC_UPDATE")) {
+            optionService.orderOption(MEMBER_ID, giftOrderRequest);
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> orderWithPessimisticLock());
+    }
+
+    private void orderWithPessimisticLock() {
+        var option = optionRepository.findByIdWithLock(giftOrderRequest.optionId())
+                .orElseThrow(() -> new NotFoundElementException("벤치마크용 옵션이 존재하지 않습니다."));
+        option.subtract(giftOrderRequest.quantity());
+        giftOrderService.addGiftOrder(MEMBER_ID, option, giftOrderRequest);
+    }
+}
@@ -0,0 +1,115 @@
+package gift.benchmark;
+
+import com.sun.net.httpserver.HttpServer;
+import gift.config.RestClientConfig;
+import gift.config.properties.RestClientProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로컬 스텁 서버를 대상으로 기존 SimpleClientHttpRequestFactory 와 커넥션을 재사용하는 JDK HttpClient 기반 RestClient 를 비교한다.
+ * Throughput 으로 초당 요청 수를, SampleTime 으로 p99 지연 시간을 함께 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Threads(16)
+@Fork(1)
+public class RestClientFactoryBenchmark {
+
+    private static final String SEND_MESSAGE_PATH = "/v2/api/talk/memo/default/send";
+
+    @Param({"SIMPLE", "POOLED"})
+    private String factory;
+    @Param({"0", "5"})
+    private int serverDelayMillis;
+
+    private HttpServer stubServer;
+    private ExecutorService stubExecutor;
+    private RestClient restClient;
+    private URI uri;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        stubExecutor = Executors.newFixedThreadPool(64);
+        stubServer = HttpServer.create(new InetSocketAddress("localhost", 0), 1024);
+        stubServer.createContext(SEND_MESSAGE_PATH, exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            sleep(serverDelayMillis);
+            var body = "{\"result_code\":0}".getBytes();
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        stubServer.setExecutor(stubExecutor);
+        stubServer.start();
+        uri = URI.create("http://localhost:" + stubServer.getAddress().getPort() + SEND_MESSAGE_PATH);
+        restClient = createRestClient();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        stubServer.stop(0);
+        stubExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public String sendMessage() {
+        var body = new LinkedMultiValueMap<String, Object>();
+        body.add("template_object", "{\"object_type\":\"text\",\"text\":\"benchmark\"}");
+        return restClient.post()
+                .uri(uri)
+                .header("Authorization", "Bearer benchmark")
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .body(body)
+                .retrieve()
+                .body(String.class);
+    }
+
+    private RestClient createRestClient() {
+        if (factory.equals("SIMPLE")) {
+            var simpleFactory = new SimpleClientHttpRequestFactory();
+            simpleFactory.setConnectTimeout(5000);
+            simpleFactory.setReadTimeout(5000);
+            return RestClient.builder().requestFactory(simpleFactory).build();
+        }
+        var restClientConfig = new RestClientConfig(new RestClientProperties(5000, 5000, 20, 5000L));
+        return restClientConfig.restClient(restClientConfig.httpClient(new StandardEnvironment()), restClientConfig.hostConnectionLimiter(new SimpleMeterRegistry()));
+    }
+
+    private static void sleep(int millis) {
+        if (millis == 0) return;
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package gift.benchmark;
+
+import gift.dto.giftorder.GiftOrderRequest;
+import gift.dto.giftorder.GiftOrderResponse;
+import gift.dto.option.OptionRequest;
+import gift.dto.point.PointResponse;
+import gift.dto.product.ProductResponse;
+import gift.dto.wishproduct.WishProductResponse;
+import gift.repository.MemberRepository;
+import gift.service.MemberPointService;
+import gift.service.OptionService;
+import gift.service.ProductService;
+import gift.service.WishProductService;
+import gift.service.auth.JwtProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서비스 계층의 주요 경로(주문, 상품 목록, 위시 리스트, 토큰 검증, 포인트 잔액 조회)의 초당 처리량을 측정한다.
+ * 데이터 크기는 -p productCount=..,wishCount=..,pointLedgerSize=.. 로 바꿀 수 있다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Threads(4)
+@Fork(1)
+public class ServiceHotPathBenchmark {
+
+    private static final Long MEMBER_ID = 1L;
+    private static final Long PRODUCT_ID = 1L;
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"1000", "100000"})
+    private int productCount;
+    @Param({"100"})
+    private int wishCount;
+    @Param({"1000"})
+    private int pointLedgerSize;
+
+    private ConfigurableApplicationContext context;
+    private OptionService optionService;
+    private ProductService productService;
+    private WishProductService wishProductService;
+    private MemberPointService memberPointService;
+    private JwtProvider jwtProvider;
+    private GiftOrderRequest giftOrderRequest;
+    private Pageable productPageable;
+    private Pageable wishPageable;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        optionService = context.getBean(OptionService.class);
+        productService = context.getBean(ProductService.class);
+        wishProductService = context.getBean(WishProductService.class);
+        memberPointService = context.getBean(MemberPointService.class);
+        jwtProvider = context.getBean(JwtProvider.class);
+        seed(new BenchmarkDataSeeder(context.getBean(JdbcTemplate.class)));
+        var option = optionService.addOption(PRODUCT_ID, new OptionRequest("benchmark", 100_000_000));
+        giftOrderRequest = new GiftOrderRequest(option.id(), 1, "benchmark", 0);
+        productPageable = PageRequest.of(productCount / PAGE_SIZE / 2, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "id"));
+        wishPageable = PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "id"));
+        var member = context.getBean(MemberRepository.class).findById(MEMBER_ID).orElseThrow();
+        token = jwtProvider.generateToken(member);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public GiftOrderResponse orderOption() {
+        return optionService.orderOption(MEMBER_ID, giftOrderRequest);
+    }
+
+    @Benchmark
+    public List<ProductResponse> getProducts() {
+        return productService.getProducts(productPageable);
+    }
+
+    @Benchmark
+    public List<WishProductResponse> getWishProducts() {
+        return wishProductService.getWishProducts(MEMBER_ID, wishPageable);
+    }
+
+    @Benchmark
+    public Long verifyToken() {
+        return jwtProvider.getMemberIdWithToken(token);
+    }
+
+    @Benchmark
+    public PointResponse getPoint() {
+        return memberPointService.getPoint(MEMBER_ID);
+    }
+
+    private void seed(BenchmarkDataSeeder benchmarkDataSeeder) {
+        benchmarkDataSeeder.seedProducts(productCount);
+        benchmarkDataSeeder.seedWishProducts(MEMBER_ID, wishCount);
+        benchmarkDataSeeder.seedMemberPoints(MEMBER_ID, pointLedgerSize, 100);
+    }
+}
@@ -0,0 +1,181 @@
+package gift.benchmark;
+
+import gift.dto.option.OptionRequest;
+import gift.repository.MemberRepository;
+import gift.service.OptionService;
+import gift.service.auth.JwtProvider;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 실제 Tomcat 위에서 동시 연결 수(connections)만큼 POST /api/orders 를 한꺼번에 보내 플랫폼 스레드(PLATFORM)와
+ * 가상 스레드(VIRTUAL) 실행 모드를 비교한다.
+ * 두 모드 모두 같은 방식으로, 서버가 동시에 처리한 최대 주문 수(maxInFlightOrders)와 반복 시작 시점 대비
+ * 연결 하나당 늘어난 최대 힙 사용량(heapBytesPerConnection)을 JMH 보조 카운터로 함께 보고한다.
+ * 가상 스레드의 스택은 힙에 저장되므로 힙 증가량에 포함되고, 플랫폼 스레드의 스택은 힙 밖에 예약되므로 포함되지 않는다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(value = 1, jvmArgsAppend = "-Xss1m")
+public class VirtualThreadOrderBenchmark {
+
+    private static final Long MEMBER_ID = 1L;
+    private static final Long PRODUCT_ID = 1L;
+
+    @Param({"PLATFORM", "VIRTUAL"})
+    private String threading;
+    @Param({"200", "1000", "4000"})
+    private int connections;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private HttpRequest orderRequest;
+    private ScheduledExecutorService sampler;
+    private final AtomicLong peakHeapBytes = new AtomicLong();
+    private long baselineHeapBytes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.startWith(new Class<?>[]{InFlightOrderCounter.class},
+                "spring.threads.virtual.enabled=" + threading.equals("VIRTUAL"),
+                "notification.dispatch-interval=3600000");
+        var option = context.getBean(OptionService.class).addOption(PRODUCT_ID, new OptionRequest("loadtest", 100_000_000));
+        var member = context.getBean(MemberRepository.class).findById(MEMBER_ID).orElseThrow();
+        var token = context.getBean(JwtProvider.class).generateToken(member);
+        var port = context.getEnvironment().getProperty("local.server.port");
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        orderRequest = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/orders"))
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"optionId\":" + option.id() + ",\"quantity\":1,\"message\":\"loadtest\",\"point\":0}"))
+                .build();
+        sampler = Executors.newSingleThreadScheduledExecutor();
+        sampler.scheduleAtFixedRate(this::sample, 0, 10, TimeUnit.MILLISECONDS);
+    }
+
+    @Setup(Level.Iteration)
+    public void resetCounters() {
+        System.gc();
+        baselineHeapBytes = getHeapBytes();
+        peakHeapBytes.set(baselineHeapBytes);
+        InFlightOrderCounter.reset();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sampler.shutdownNow();
+        httpClient.close();
+        context.close();
+    }
+
+    @Benchmark
+    public void orderBurst(ConnectionFootprint connectionFootprint) {
+        var futures = new CompletableFuture<?>[connections];
+        for (int i = 0; i < connections; i++) {
+            futures[i] = httpClient.sendAsync(orderRequest, HttpResponse.BodyHandlers.discarding());
+        }
+        CompletableFuture.allOf(futures).join();
+        connectionFootprint.maxInFlightOrders = Math.max(connectionFootprint.maxInFlightOrders, InFlightOrderCounter.getMaxInFlight());
+        connectionFootprint.heapBytesPerConnection = Math.max(connectionFootprint.heapBytesPerConnection, (peakHeapBytes.get() - baselineHeapBytes) / connections);
+    }
+
+    private void sample() {
+        peakHeapBytes.accumulateAndGet(getHeapBytes(), Math::max);
+    }
+
+    private static long getHeapBytes() {
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    /**
+     * 측정 반복마다 초기화되어 반복 중 관측된 최댓값을 JMH 결과에 보조 지표로 함께 출력한다.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class ConnectionFootprint {
+
+        public long maxInFlightOrders;
+        public long heapBytesPerConnection;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            maxInFlightOrders = 0;
+            heapBytesPerConnection = 0;
+        }
+    }
+
+    /**
+     * 부하 테스트 컨텍스트에만 추가되는 설정으로, 주문 요청이 서버에서 동시에 처리되고 있는 최대 개수를 센다.
+     */
+    public static class InFlightOrderCounter {
+
+        private static final AtomicInteger inFlight = new AtomicInteger();
+        private static final AtomicInteger maxInFlight = new AtomicInteger();
+
+        static void reset() {
+            maxInFlight.set(inFlight.get());
+        }
+
+        static int getMaxInFlight() {
+            return maxInFlight.get();
+        }
+
+        @Bean
+        public FilterRegistrationBean<OncePerRequestFilter> inFlightOrderFilter() {
+            var registration = new FilterRegistrationBean<OncePerRequestFilter>(new OncePerRequestFilter() {
+                @Override
+                protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    try {
+                        filterChain.doFilter(request, response);
+                    } finally {
+                        inFlight.decrementAndGet();
+                    }
+                }
+            });
+            registration.addUrlPatterns("/api/orders");
+            registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+            return registration;
+        }
+    }
+}
@@ -1,15 +1,27 @@
 package gift;
 
+import gift.config.properties.DeletionProperties;
 import gift.config.properties.JwtProperties;
 import gift.config.properties.KakaoProperties;
+import gift.config.properties.KakaoTokenProperties;
+import gift.config.properties.NotificationProperties;
+import gift.config.properties.PointProperties;
+import gift.config.properties.ProductCacheProperties;
+import gift.config.properties.ProductImportProperties;
+import gift.config.properties.RestClientProperties;
+import gift.config.properties.StatementBudgetProperties;
+import gift.config.properties.StockProperties;
+import gift.config.properties.VirtualThreadProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableJpaAuditing
-@EnableConfigurationProperties({JwtProperties.class, KakaoProperties.class})
+@EnableScheduling
+@EnableConfigurationProperties({JwtProperties.class, KakaoProperties.class, PointProperties.class, StockProperties.class, NotificationProperties.class, RestClientProperties.class, ProductCacheProperties.class, DeletionProperties.class, ProductImportProperties.class, VirtualThreadProperties.class, KakaoTokenProperties.class, StatementBudgetProperties.class})
 public class Application {
     public static void main(String[] args) {
         SpringApplication.run(Application.class, args);
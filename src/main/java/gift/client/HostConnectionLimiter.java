@@ -0,0 +1,157 @@
+package gift.client;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class HostConnectionLimiter implements ClientHttpRequestInterceptor {
+
+    private final Integer maxConnectionsPerHost;
+    private final Long acquireTimeout;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, HostPool> hostPools = new ConcurrentHashMap<>();
+
+    public HostConnectionLimiter(Integer maxConnectionsPerHost, Long acquireTimeout, MeterRegistry meterRegistry) {
+        this.maxConnectionsPerHost = maxConnectionsPerHost;
+        this.acquireTimeout = acquireTimeout;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        var hostPool = hostPools.computeIfAbsent(getHostKey(request), this::createHostPool);
+        hostPool.acquire(acquireTimeout);
+        try {
+            return new ReleasingClientHttpResponse(execution.execute(request, body), hostPool);
+        } catch (IOException | RuntimeException exception) {
+            hostPool.release();
+            throw exception;
+        }
+    }
+
+    private HostPool createHostPool(String host) {
+        var hostPool = new HostPool(maxConnectionsPerHost);
+        Gauge.builder("gift.http.client.connections.active", hostPool, HostPool::getActiveConnections)
+                .description("호스트별로 사용 중인 연결 수")
+                .tag("host", host)
+                .register(meterRegistry);
+        Gauge.builder("gift.http.client.connections.pending", hostPool, pool -> pool.waitingRequests.get())
+                .description("호스트별로 연결을 기다리는 요청 수")
+                .tag("host", host)
+                .register(meterRegistry);
+        FunctionCounter.builder("gift.http.client.requests", hostPool, pool -> pool.totalRequests.get())
+                .description("호스트별로 연결을 얻은 요청 수")
+                .tag("host", host)
+                .register(meterRegistry);
+        FunctionCounter.builder("gift.http.client.acquire.timeouts", hostPool, pool -> pool.acquireTimeouts.get())
+                .description("호스트별로 연결을 얻지 못하고 시간이 초과된 요청 수")
+                .tag("host", host)
+                .register(meterRegistry);
+        return hostPool;
+    }
+
+    private String getHostKey(HttpRequest request) {
+        var uri = request.getURI();
+        return uri.getScheme() + "://" + uri.getHost() + ":" + uri.getPort();
+    }
+
+    private static class HostPool {
+        private final Integer maxConnections;
+        private final Semaphore semaphore;
+        private final AtomicInteger waitingRequests = new AtomicInteger();
+        private final AtomicLong totalRequests = new AtomicLong();
+        private final AtomicLong acquireTimeouts = new AtomicLong();
+
+        private HostPool(Integer maxConnections) {
+            this.maxConnections = maxConnections;
+            this.semaphore = new Semaphore(maxConnections, true);
+        }
+
+        private void acquire(Long timeout) throws IOException {
+            waitingRequests.incrementAndGet();
+            try {
+                if (!semaphore.tryAcquire(timeout, TimeUnit.MILLISECONDS)) {
+                    acquireTimeouts.incrementAndGet();
+                    throw new IOException("호스트별 최대 연결 수를 초과해 " + timeout + "ms 안에 연결을 얻지 못했습니다.");
+                }
+                totalRequests.incrementAndGet();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("연결을 기다리는 중 인터럽트가 발생했습니다.");
+            } finally {
+                waitingRequests.decrementAndGet();
+            }
+        }
+
+        private void release() {
+            semaphore.release();
+        }
+
+        private int getActiveConnections() {
+            return maxConnections - semaphore.availablePermits();
+        }
+    }
+
+    private static class ReleasingClientHttpResponse implements ClientHttpResponse {
+        private final ClientHttpResponse delegate;
+        private final HostPool hostPool;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private ReleasingClientHttpResponse(ClientHttpResponse delegate, HostPool hostPool) {
+            this.delegate = delegate;
+            this.hostPool = hostPool;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            return delegate.getBody();
+        }
+
+        @Override
+        public void close() {
+            try {
+                delegate.close();
+            } finally {
+                releaseOnce();
+            }
+        }
+
+        private void releaseOnce() {
+            if (released.compareAndSet(false, true)) {
+                hostPool.release();
+            }
+        }
+    }
+}
@@ -12,14 +12,20 @@ import gift.dto.kakao.template.KakaoTemplateContent;
 import gift.dto.kakao.template.KakaoTemplateLink;
 import gift.exception.BadRequestException;
 import gift.exception.UnauthorizedAccessException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientResponseException;
 
 import java.net.URI;
+import java.util.List;
+import java.util.function.Supplier;
 
 @Component
 @RequiredArgsConstructor
@@ -27,9 +33,13 @@ public class KakaoApiClient {
 
     private final RestClient restClient;
     private final KakaoProperties kakaoProperties;
+    private final MeterRegistry meterRegistry;
     private final ObjectMapper objectMapper = new ObjectMapper();
     private static final String INVALID_TOKEN_MESSAGE = "유효하지 않은 토큰입니다. 갱신이 필요합니다.";
-    private static final String TOKEN_BASE_URL = "https://kauth.kakao.com/oauth/token";
+    private static final String TOKEN_PATH = "/oauth/token";
+    private static final String USER_PATH = "/v2/user/me";
+    private static final String SEND_MESSAGE_PATH = "/v2/api/talk/memo/default/send";
+    private static final String IO_ERROR_STATUS = "IO_ERROR";
 
     public KakaoTokenResponse getTokenResponse(String code, String redirectUri) {
         var body = new LinkedMultiValueMap<String, String>();
@@ -38,12 +48,12 @@ public class KakaoApiClient {
         body.add("redirect_uri", redirectUri);
         body.add("code", code);
 
-        var response = restClient.post()
-                .uri(URI.create(TOKEN_BASE_URL))
+        var response = exchange("token", () -> restClient.post()
+                .uri(URI.create(kakaoProperties.authBaseUri() + TOKEN_PATH))
                 .contentType(MediaType.APPLICATION_FORM_URLENCODED)
                 .body(body)
                 .retrieve()
-                .body(String.class);
+                .toEntity(String.class));
 
         return convertDtoWithJsonString(response, KakaoTokenResponse.class);
     }
@@ -54,42 +64,42 @@ public class KakaoApiClient {
         body.add("client_id", kakaoProperties.restApiKey());
         body.add("refresh_token", refreshToken);
 
-        var response = restClient.post()
-                .uri(URI.create(TOKEN_BASE_URL))
+        var response = exchange("refresh_token", () -> restClient.post()
+                .uri(URI.create(kakaoProperties.authBaseUri() + TOKEN_PATH))
                 .contentType(MediaType.APPLICATION_FORM_URLENCODED)
                 .body(body)
                 .retrieve()
                 .onStatus(statusCode -> statusCode.equals(HttpStatus.UNAUTHORIZED), (req, res) -> {
                     throw new UnauthorizedAccessException("유효하지 않은 카카오 리프레시 토큰입니다.");
                 })
-                .body(String.class);
+                .toEntity(String.class));
 
         return convertDtoWithJsonString(response, KakaoTokenResponse.class);
     }
 
     public KakaoAuthResponse getKakaoAuthResponse(KakaoTokenResponse kakaoTokenResponse) {
-        var url = "https://kapi.kakao.com/v2/user/me";
+        var url = kakaoProperties.apiBaseUri() + USER_PATH;
         var header = "Bearer " + kakaoTokenResponse.accessToken();
 
-        var response = restClient.get()
+        var response = exchange("user_me", () -> restClient.get()
                 .uri(URI.create(url))
                 .header("Authorization", header)
                 .retrieve()
-                .body(String.class);
+                .toEntity(String.class));
 
         return convertDtoWithJsonString(response, KakaoAuthResponse.class);
     }
 
-    public void sendSelfMessageOrder(String accessToken, GiftOrderResponse giftOrderResponse) {
+    public void sendSelfMessageOrder(String accessToken, List<GiftOrderResponse> giftOrderResponses) {
         try {
-            var url = "https://kapi.kakao.com/v2/api/talk/memo/default/send";
+            var url = kakaoProperties.apiBaseUri() + SEND_MESSAGE_PATH;
             var header = "Bearer " + accessToken;
 
-            var template = getCommerceTemplate(giftOrderResponse);
+            var template = getCommerceTemplate(giftOrderResponses);
             var body = new LinkedMultiValueMap<String, Object>();
             body.add("template_object", objectMapper.writeValueAsString(template));
 
-            restClient.post()
+            exchange("send_message", () -> restClient.post()
                     .uri(URI.create(url))
                     .header("Authorization", header)
                     .contentType(MediaType.APPLICATION_FORM_URLENCODED)
@@ -98,12 +108,37 @@ public class KakaoApiClient {
                     .onStatus(statusCode -> statusCode.equals(HttpStatus.UNAUTHORIZED), (req, res) -> {
                         throw new UnauthorizedAccessException(INVALID_TOKEN_MESSAGE);
                     })
-                    .body(String.class);
+                    .toEntity(String.class));
         } catch (JsonProcessingException exception) {
             throw new BadRequestException("잘못된 입력으로 인해 JSON 파싱에 실패했습니다" + exception.getMessage());
         }
     }
 
+    private String exchange(String api, Supplier<ResponseEntity<String>> request) {
+        var sample = Timer.start(meterRegistry);
+        var status = IO_ERROR_STATUS;
+        try {
+            var response = request.get();
+            status = String.valueOf(response.getStatusCode().value());
+            return response.getBody();
+        } catch (RuntimeException exception) {
+            status = getStatus(exception);
+            throw exception;
+        } finally {
+            sample.stop(meterRegistry.timer("gift.kakao.api", "api", api, "status", status));
+        }
+    }
+
+    private String getStatus(RuntimeException exception) {
+        if (exception instanceof RestClientResponseException responseException) {
+            return String.valueOf(responseException.getStatusCode().value());
+        }
+        if (exception instanceof UnauthorizedAccessException) {
+            return String.valueOf(HttpStatus.UNAUTHORIZED.value());
+        }
+        return IO_ERROR_STATUS;
+    }
+
     private <T> T convertDtoWithJsonString(String response, Class<T> returnTypeClass) {
         try {
             return objectMapper.readValue(response, returnTypeClass);
@@ -112,11 +147,25 @@ public class KakaoApiClient {
         }
     }
 
-    private KakaoTemplate getCommerceTemplate(GiftOrderResponse giftOrderResponse) {
+    private KakaoTemplate getCommerceTemplate(List<GiftOrderResponse> giftOrderResponses) {
         var objectType = "commerce";
+        var giftOrderResponse = giftOrderResponses.get(0);
         var link = new KakaoTemplateLink("https://gift.kakao.com/product/2370524");
         var content = new KakaoTemplateContent(giftOrderResponse.message(), "https://img1.kakaocdn.net/thumb/C320x320@2x.fwebp.q82/?fname=https%3A%2F%2Fst.kakaocdn.net%2Fproduct%2Fgift%2Fproduct%2F20240417111629_616eccb9d4cd464fa06d3430947dce15.jpg", giftOrderResponse.message(), link);
-        var commerce = new KakaoTemplateCommerce(giftOrderResponse.productBasicInformation().name() + "[" + giftOrderResponse.optionResponse().name() + "]", giftOrderResponse.productBasicInformation().price() * giftOrderResponse.quantity());
+        var commerce = new KakaoTemplateCommerce(getCommerceTitle(giftOrderResponses), getTotalPrice(giftOrderResponses));
         return new KakaoTemplate(objectType, content, commerce);
     }
+
+    private String getCommerceTitle(List<GiftOrderResponse> giftOrderResponses) {
+        var giftOrderResponse = giftOrderResponses.get(0);
+        var title = giftOrderResponse.productBasicInformation().name() + "[" + giftOrderResponse.optionResponse().name() + "]";
+        if (giftOrderResponses.size() == 1) return title;
+        return title + " 외 " + (giftOrderResponses.size() - 1) + "건";
+    }
+
+    private Integer getTotalPrice(List<GiftOrderResponse> giftOrderResponses) {
+        return giftOrderResponses.stream()
+                .mapToInt(giftOrderResponse -> giftOrderResponse.productBasicInformation().price() * giftOrderResponse.quantity())
+                .sum();
+    }
 }
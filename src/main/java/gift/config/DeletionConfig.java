@@ -0,0 +1,28 @@
+package gift.config;
+
+import gift.config.properties.DeletionProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@RequiredArgsConstructor
+public class DeletionConfig {
+
+    private final DeletionProperties deletionProperties;
+    private final Environment environment;
+
+    @Bean
+    public ThreadPoolTaskExecutor memberPurgeExecutor() {
+        var executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(deletionProperties.purgeConcurrency());
+        executor.setMaxPoolSize(deletionProperties.purgeConcurrency());
+        executor.setThreadNamePrefix("member-purge-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setVirtualThreads(Threading.VIRTUAL.isActive(environment));
+        return executor;
+    }
+}
@@ -0,0 +1,21 @@
+package gift.config;
+
+import gift.metric.RequestStatementCounter;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricConfig {
+
+    @Bean
+    public RequestStatementCounter requestStatementCounter() {
+        return new RequestStatementCounter();
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer statementInspectorCustomizer(RequestStatementCounter requestStatementCounter) {
+        return hibernateProperties -> hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, requestStatementCounter);
+    }
+}
@@ -0,0 +1,29 @@
+package gift.config;
+
+import gift.config.properties.NotificationProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@RequiredArgsConstructor
+public class NotificationConfig {
+
+    private final NotificationProperties notificationProperties;
+    private final Environment environment;
+
+    @Bean
+    public ThreadPoolTaskExecutor notificationExecutor() {
+        var executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(notificationProperties.concurrency());
+        executor.setMaxPoolSize(notificationProperties.concurrency());
+        executor.setQueueCapacity(notificationProperties.batchSize());
+        executor.setThreadNamePrefix("notification-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setVirtualThreads(Threading.VIRTUAL.isActive(environment));
+        return executor;
+    }
+}
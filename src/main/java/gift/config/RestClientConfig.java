@@ -1,20 +1,49 @@
 package gift.config;
 
+import gift.client.HostConnectionLimiter;
+import gift.config.properties.RestClientProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.core.env.Environment;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
 @Configuration
+@RequiredArgsConstructor
 public class RestClientConfig {
 
+    private final RestClientProperties restClientProperties;
+
+    @Bean
+    public HttpClient httpClient(Environment environment) {
+        var builder = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofMillis(restClientProperties.connectTimeout()));
+        if (Threading.VIRTUAL.isActive(environment)) {
+            builder.executor(Executors.newVirtualThreadPerTaskExecutor());
+        }
+        return builder.build();
+    }
+
+    @Bean
+    public HostConnectionLimiter hostConnectionLimiter(MeterRegistry meterRegistry) {
+        return new HostConnectionLimiter(restClientProperties.maxConnectionsPerHost(), restClientProperties.acquireTimeout(), meterRegistry);
+    }
+
     @Bean
-    public RestClient restClient() {
-        var factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(5000);
-        factory.setReadTimeout(5000);
+    public RestClient restClient(HttpClient httpClient, HostConnectionLimiter hostConnectionLimiter) {
+        var factory = new JdkClientHttpRequestFactory(httpClient);
+        factory.setReadTimeout(restClientProperties.readTimeout());
         return RestClient.builder()
                 .requestFactory(factory)
+                .requestInterceptor(hostConnectionLimiter)
                 .build();
     }
 }
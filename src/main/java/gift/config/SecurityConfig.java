@@ -2,6 +2,8 @@ package gift.config;
 
 import gift.config.security.InvalidAuthEntryPoint;
 import gift.config.security.JwtAuthFilter;
+import gift.metric.StatementCountFilter;
+import gift.model.MemberRole;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -34,7 +36,7 @@ public class SecurityConfig {
                     config.setAllowedOrigins(List.of("http://localhost:3000", "http://localhost:8080", "https://kauth.kakao.com", "https://kapi.kakao.com"));
                     config.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "OPTIONS"));
                     config.setAllowedHeaders(List.of("*"));
-                    config.setExposedHeaders(List.of("Location"));
+                    config.setExposedHeaders(List.of("Location", "X-Next-Cursor", StatementCountFilter.STATEMENT_COUNT_HEADER));
                     config.setAllowCredentials(true);
                     config.setMaxAge(3600L); //1시간
                     return config;
@@ -43,6 +45,8 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
                         .requestMatchers("/swagger-ui/**", "/swagger-resources/**", "/v3/api-docs/**").permitAll()
                         .requestMatchers("/api/members/login/**", "/api/members/register").permitAll()
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasAuthority(MemberRole.ADMIN.name())
                         .anyRequest().authenticated()
                 )
                 .formLogin(AbstractHttpConfigurer::disable)
@@ -0,0 +1,74 @@
+package gift.config;
+
+import gift.config.properties.VirtualThreadProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.stream.Collectors;
+
+/**
+ * 가상 스레드 모드에서 synchronized 블록이나 네이티브 호출로 가상 스레드가 캐리어 스레드에 고정(pinning)되는 구간을
+ * JFR 의 jdk.VirtualThreadPinned 이벤트로 감지해 고정 시간과 호출 위치를 기록한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@RequiredArgsConstructor
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private final VirtualThreadProperties virtualThreadProperties;
+    private final MeterRegistry meterRegistry;
+    private Timer pinnedTimer;
+    private RecordingStream recordingStream;
+
+    @PostConstruct
+    public void start() {
+        pinnedTimer = Timer.builder("gift.virtual.thread.pinned")
+                .description("가상 스레드가 캐리어 스레드에 고정된 횟수와 시간")
+                .register(meterRegistry);
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT)
+                .withThreshold(Duration.ofMillis(virtualThreadProperties.pinnedThreshold()))
+                .withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::report);
+        recordingStream.startAsync();
+    }
+
+    @PreDestroy
+    public void stop() {
+        recordingStream.close();
+    }
+
+    private void report(RecordedEvent event) {
+        pinnedTimer.record(event.getDuration());
+        log.warn("가상 스레드가 {}ms 동안 캐리어 스레드에 고정되었습니다.\n{}", event.getDuration().toMillis(), getTopFrames(event));
+    }
+
+    private String getTopFrames(RecordedEvent event) {
+        if (event.getStackTrace() == null) return "";
+        return event.getStackTrace()
+                .getFrames()
+                .stream()
+                .limit(virtualThreadProperties.pinnedStackDepth())
+                .map(this::toFrameString)
+                .collect(Collectors.joining("\n"));
+    }
+
+    private String toFrameString(RecordedFrame frame) {
+        var method = frame.getMethod();
+        return "\tat " + method.getType().getName() + "." + method.getName() + ":" + frame.getLineNumber();
+    }
+}
@@ -0,0 +1,8 @@
+package gift.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "deletion")
+public record DeletionProperties(@DefaultValue("1000") Integer chunkSize, @DefaultValue("true") Boolean asyncMemberPurge, @DefaultValue("2") Integer purgeConcurrency) {
+}
@@ -0,0 +1,21 @@
+package gift.config.properties;
+
+public enum JwtAlgorithm {
+    HS256("HmacSHA256"),
+    ES256("EC"),
+    EDDSA("Ed25519");
+
+    private final String keyAlgorithm;
+
+    JwtAlgorithm(String keyAlgorithm) {
+        this.keyAlgorithm = keyAlgorithm;
+    }
+
+    public String getKeyAlgorithm() {
+        return keyAlgorithm;
+    }
+
+    public boolean isSymmetric() {
+        return this == HS256;
+    }
+}
@@ -1,7 +1,8 @@
 package gift.config.properties;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
 
 @ConfigurationProperties(prefix = "jwt")
-public record JwtProperties(String secretKey, Long expiredTime) {
+public record JwtProperties(String secretKey, Long expiredTime, @DefaultValue("10000") Integer principalCacheSize, @DefaultValue("HS256") JwtAlgorithm algorithm, String privateKey, String publicKey) {
 }
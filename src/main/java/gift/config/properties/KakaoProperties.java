@@ -1,7 +1,8 @@
 package gift.config.properties;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
 
 @ConfigurationProperties(prefix = "kakao")
-public record KakaoProperties(String restApiKey, String redirectUri, String tokenUri, String oauthBaseUri) {
+public record KakaoProperties(String restApiKey, String redirectUri, String tokenUri, String oauthBaseUri, @DefaultValue("https://kauth.kakao.com") String authBaseUri, @DefaultValue("https://kapi.kakao.com") String apiBaseUri) {
 }
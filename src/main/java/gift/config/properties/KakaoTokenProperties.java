@@ -0,0 +1,8 @@
+package gift.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "kakao-token")
+public record KakaoTokenProperties(@DefaultValue("300") Long refreshAhead, @DefaultValue("60000") Long refreshInterval, @DefaultValue("10000") Long cacheSize) {
+}
@@ -0,0 +1,8 @@
+package gift.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "notification")
+public record NotificationProperties(@DefaultValue("4") Integer concurrency, @DefaultValue("100") Integer batchSize, @DefaultValue("5") Integer maxAttempts, @DefaultValue("1000") Long backoff, @DefaultValue("30000") Long lease) {
+}
@@ -0,0 +1,8 @@
+package gift.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "point")
+public record PointProperties(@DefaultValue("10") Long flushInterval, @DefaultValue("500") Integer batchSize, @DefaultValue("3000") Long chargeTimeout) {
+}
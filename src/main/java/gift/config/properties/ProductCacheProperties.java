@@ -0,0 +1,8 @@
+package gift.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "product-cache")
+public record ProductCacheProperties(@DefaultValue("10000") Long maximumSize, @DefaultValue("1000") Long pageMaximumSize, @DefaultValue("60000") Long expireAfterWrite) {
+}
@@ -0,0 +1,8 @@
+package gift.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "rest-client")
+public record RestClientProperties(@DefaultValue("5000") Integer connectTimeout, @DefaultValue("5000") Integer readTimeout, @DefaultValue("20") Integer maxConnectionsPerHost, @DefaultValue("5000") Long acquireTimeout) {
+}
@@ -0,0 +1,14 @@
+package gift.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Map;
+
+@ConfigurationProperties(prefix = "statement-budget")
+public record StatementBudgetProperties(@DefaultValue("30") Integer defaultBudget, @DefaultValue Map<String, Integer> endpoints, @DefaultValue("false") Boolean exposeHeader, @DefaultValue("false") Boolean recordViolations) {
+
+    public Integer getBudget(String uriPattern) {
+        return endpoints.getOrDefault(uriPattern, defaultBudget);
+    }
+}
@@ -0,0 +1,10 @@
+package gift.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+
+@ConfigurationProperties(prefix = "stock")
+public record StockProperties(@DefaultValue List<Long> hotOptionIds, @DefaultValue("8") Integer stripes, @DefaultValue("100") Integer chunkSize, @DefaultValue("60000") Long reservationTimeout) {
+}
@@ -0,0 +1,8 @@
+package gift.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "virtual-thread")
+public record VirtualThreadProperties(@DefaultValue("20") Long pinnedThreshold, @DefaultValue("8") Integer pinnedStackDepth) {
+}
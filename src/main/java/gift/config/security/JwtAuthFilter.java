@@ -1,8 +1,13 @@
 package gift.config.security;
 
+import gift.dto.auth.MemberPrincipal;
+import gift.dto.auth.VerifiedToken;
 import gift.exception.NotFoundElementException;
 import gift.repository.MemberRepository;
+import gift.service.auth.JwtPrincipalCache;
 import gift.service.auth.JwtProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -23,8 +28,12 @@ import java.util.List;
 @RequiredArgsConstructor
 public class JwtAuthFilter extends OncePerRequestFilter {
 
+    private static final String AUTH_TIMER_NAME = "gift.auth.jwt";
+
     private final JwtProvider jwtProvider;
     private final MemberRepository memberRepository;
+    private final JwtPrincipalCache jwtPrincipalCache;
+    private final MeterRegistry meterRegistry;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
@@ -37,34 +46,69 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             filterChain.doFilter(request, response);
             return;
         }
-        var memberId = getMemberIdWithToken(request, token);
-        if (memberId == null) {
+        var principal = getMemberPrincipal(request, token);
+        if (principal == null) {
             filterChain.doFilter(request, response);
             return;
         }
-        setMemberAuthToken(request, memberId);
+        setMemberAuthToken(request, principal);
 
         filterChain.doFilter(request, response);
     }
 
-    private void setMemberAuthToken(HttpServletRequest request, Long memberId) {
+    private void setMemberAuthToken(HttpServletRequest request, MemberPrincipal principal) {
+        var authorities = List.of(new SimpleGrantedAuthority(principal.memberRole().name()));
+        var authToken = new UsernamePasswordAuthenticationToken(principal.memberId(), principal.email(), authorities);
+        var authDetails = new WebAuthenticationDetailsSource().buildDetails(request);
+        authToken.setDetails(authDetails);
+
+        SecurityContextHolder.getContext().setAuthentication(authToken);
+    }
+
+    private MemberPrincipal getMemberPrincipal(HttpServletRequest request, String token) {
+        var sample = Timer.start(meterRegistry);
+        var cachedPrincipal = jwtPrincipalCache.get(token);
+        if (cachedPrincipal != null) {
+            sample.stop(meterRegistry.timer(AUTH_TIMER_NAME, "result", "cached"));
+            return cachedPrincipal;
+        }
+        var principal = verifyMemberPrincipal(request, token);
+        if (principal == null) {
+            sample.stop(meterRegistry.timer(AUTH_TIMER_NAME, "result", "rejected"));
+            return null;
+        }
+        sample.stop(meterRegistry.timer(AUTH_TIMER_NAME, "result", "verified"));
+        return principal;
+    }
+
+    private MemberPrincipal verifyMemberPrincipal(HttpServletRequest request, String token) {
+        var version = jwtPrincipalCache.getInvalidationVersion();
+        var verifiedToken = verifyToken(request, token);
+        if (verifiedToken == null) {
+            return null;
+        }
+        var principal = loadMemberPrincipal(request, verifiedToken);
+        if (principal == null) {
+            return null;
+        }
+        jwtPrincipalCache.put(token, principal, version);
+        return principal;
+    }
+
+    private MemberPrincipal loadMemberPrincipal(HttpServletRequest request, VerifiedToken verifiedToken) {
         try {
-            var member = memberRepository.findById(memberId)
+            var member = memberRepository.findById(verifiedToken.memberId())
                     .orElseThrow(() -> new NotFoundElementException("존재하지 않는 이용자 입니다."));
-            var authorities = List.of(new SimpleGrantedAuthority(member.getMemberRole().name()));
-            var authToken = new UsernamePasswordAuthenticationToken(member.getId(), member.getEmail(), authorities);
-            var authDetails = new WebAuthenticationDetailsSource().buildDetails(request);
-            authToken.setDetails(authDetails);
-
-            SecurityContextHolder.getContext().setAuthentication(authToken);
+            return MemberPrincipal.of(member.getId(), member.getMemberRole(), member.getEmail(), verifiedToken.expiresAt());
         } catch (Exception exception) {
             request.setAttribute("exception", "토큰이 유효하지 않습니다.");
+            return null;
         }
     }
 
-    private Long getMemberIdWithToken(HttpServletRequest request, String token) {
+    private VerifiedToken verifyToken(HttpServletRequest request, String token) {
         try {
-            return jwtProvider.getMemberIdWithToken(token);
+            return jwtProvider.verifyToken(token);
         } catch (Exception exception) {
             request.setAttribute("exception", "토큰이 만료되었습니다.");
             return null;
@@ -6,6 +6,7 @@ import gift.dto.category.CategoryResponse;
 import gift.service.CategoryService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -17,7 +18,6 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.net.URI;
-import java.util.List;
 
 @RestController
 @RequestMapping("/api/categories")
@@ -45,9 +45,11 @@ public class CategoryController implements CategoryApi {
     }
 
     @GetMapping
-    public ResponseEntity<List<CategoryResponse>> getCategories() {
-        var categories = categoryService.getCategories();
-        return ResponseEntity.ok(categories);
+    public ResponseEntity<byte[]> getCategories() {
+        var categories = categoryService.getCategoriesJson();
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(categories);
     }
 
     @DeleteMapping("/{id}")
@@ -1,16 +1,18 @@
 package gift.controller;
 
 import gift.controller.api.GiftOrderApi;
+import gift.dto.cursor.Cursor;
+import gift.dto.giftorder.GiftOrderBatchRequest;
 import gift.dto.giftorder.GiftOrderRequest;
 import gift.dto.giftorder.GiftOrderResponse;
 import gift.service.GiftOrderService;
-import gift.service.KakaoService;
 import gift.service.OptionService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -19,6 +21,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.net.URI;
@@ -31,16 +34,21 @@ public class GiftOrderController implements GiftOrderApi {
 
     private final GiftOrderService giftOrderService;
     private final OptionService optionService;
-    private final KakaoService kakaoService;
 
     @PostMapping
     public ResponseEntity<GiftOrderResponse> orderOption(@Valid @RequestBody GiftOrderRequest giftOrderRequest) {
         var memberId = getMemberId();
         var order = optionService.orderOption(memberId, giftOrderRequest);
-        kakaoService.sendOrderResponseWithKakaoMessage(memberId, order);
         return ResponseEntity.created(URI.create("/api/orders/" + order.id())).body(order);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<GiftOrderResponse>> orderOptions(@Valid @RequestBody GiftOrderBatchRequest giftOrderBatchRequest) {
+        var memberId = getMemberId();
+        var orders = optionService.orderOptions(memberId, giftOrderBatchRequest.orders());
+        return ResponseEntity.status(HttpStatus.CREATED).body(orders);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<GiftOrderResponse> getOrder(@PathVariable Long id) {
         var order = giftOrderService.getGiftOrder(id);
@@ -48,10 +56,14 @@ public class GiftOrderController implements GiftOrderApi {
     }
 
     @GetMapping
-    public ResponseEntity<List<GiftOrderResponse>> getOrders(@PageableDefault(sort = "id", direction = Sort.Direction.DESC) Pageable pageable) {
+    public ResponseEntity<List<GiftOrderResponse>> getOrders(@RequestParam(required = false) String after, @PageableDefault(sort = "id", direction = Sort.Direction.DESC) Pageable pageable) {
         var memberId = getMemberId();
-        var orders = giftOrderService.getGiftOrders(memberId, pageable);
-        return ResponseEntity.ok(orders);
+        var orders = giftOrderService.getGiftOrders(memberId, Cursor.getLastId(after, pageable), pageable);
+        var nextCursor = Cursor.getNextCursor(orders, pageable, GiftOrderResponse::id);
+        if (nextCursor == null) {
+            return ResponseEntity.ok(orders);
+        }
+        return ResponseEntity.ok().header(Cursor.NEXT_CURSOR_HEADER, nextCursor).body(orders);
     }
 
     @DeleteMapping("/{id}")
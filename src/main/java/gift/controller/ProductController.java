@@ -1,7 +1,10 @@
 package gift.controller;
 
 import gift.controller.api.ProductApi;
+import gift.dto.cursor.Cursor;
 import gift.dto.product.ProductAddRequest;
+import gift.dto.product.ProductImportFormat;
+import gift.dto.product.ProductImportResponse;
 import gift.dto.product.ProductResponse;
 import gift.dto.product.ProductUpdateRequest;
 import gift.service.ProductService;
@@ -21,6 +24,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.InputStream;
 import java.net.URI;
 import java.util.List;
 
@@ -29,6 +33,9 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ProductController implements ProductApi {
 
+    private static final String NDJSON_VALUE = "application/x-ndjson";
+    private static final String CSV_VALUE = "text/csv";
+
     private final ProductService productService;
 
     @PostMapping
@@ -37,6 +44,18 @@ public class ProductController implements ProductApi {
         return ResponseEntity.created(URI.create("/api/products/" + product.id())).body(product);
     }
 
+    @PostMapping(value = "/import", consumes = NDJSON_VALUE)
+    public ResponseEntity<ProductImportResponse> importProductsWithNdjson(InputStream inputStream) {
+        var response = productService.importProducts(inputStream, ProductImportFormat.NDJSON);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping(value = "/import", consumes = CSV_VALUE)
+    public ResponseEntity<ProductImportResponse> importProductsWithCsv(InputStream inputStream) {
+        var response = productService.importProducts(inputStream, ProductImportFormat.CSV);
+        return ResponseEntity.ok(response);
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<Void> updateProduct(@PathVariable Long id, @Valid @RequestBody ProductUpdateRequest productUpdateRequest) {
         productService.updateProduct(id, productUpdateRequest);
@@ -50,13 +69,13 @@ public class ProductController implements ProductApi {
     }
 
     @GetMapping
-    public ResponseEntity<List<ProductResponse>> getProducts(@RequestParam(required = false) Long categoryId, @PageableDefault(sort = "id", direction = Sort.Direction.DESC) Pageable pageable) {
-        if (categoryId == null) {
-            var products = productService.getProducts(pageable);
+    public ResponseEntity<List<ProductResponse>> getProducts(@RequestParam(required = false) Long categoryId, @RequestParam(required = false) String after, @PageableDefault(sort = "id", direction = Sort.Direction.DESC) Pageable pageable) {
+        var products = getProductsWithCursorOrPage(categoryId, after, pageable);
+        var nextCursor = Cursor.getNextCursor(products, pageable, ProductResponse::id);
+        if (nextCursor == null) {
             return ResponseEntity.ok(products);
         }
-        var products = productService.getProducts(categoryId, pageable);
-        return ResponseEntity.ok(products);
+        return ResponseEntity.ok().header(Cursor.NEXT_CURSOR_HEADER, nextCursor).body(products);
     }
 
     @DeleteMapping("/{id}")
@@ -64,4 +83,15 @@ public class ProductController implements ProductApi {
         productService.deleteProduct(id);
         return ResponseEntity.noContent().build();
     }
+
+    private List<ProductResponse> getProductsWithCursorOrPage(Long categoryId, String after, Pageable pageable) {
+        var lastId = Cursor.getLastId(after, pageable);
+        if (lastId != null) {
+            return productService.getProductsAfter(categoryId, lastId, pageable.getPageSize());
+        }
+        if (categoryId == null) {
+            return productService.getProducts(pageable);
+        }
+        return productService.getProducts(categoryId, pageable);
+    }
 }
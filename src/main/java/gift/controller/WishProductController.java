@@ -1,6 +1,7 @@
 package gift.controller;
 
 import gift.controller.api.WishProductApi;
+import gift.dto.cursor.Cursor;
 import gift.dto.wishproduct.WishProductRequest;
 import gift.dto.wishproduct.WishProductResponse;
 import gift.service.WishProductService;
@@ -17,6 +18,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.net.URI;
@@ -44,10 +46,14 @@ public class WishProductController implements WishProductApi {
     }
 
     @GetMapping
-    public ResponseEntity<List<WishProductResponse>> getWishProducts(@PageableDefault(sort = "id", direction = Sort.Direction.DESC) Pageable pageable) {
+    public ResponseEntity<List<WishProductResponse>> getWishProducts(@RequestParam(required = false) String after, @PageableDefault(sort = "id", direction = Sort.Direction.DESC) Pageable pageable) {
         var memberId = getMemberId();
-        var wishProducts = wishProductService.getWishProducts(memberId, pageable);
-        return ResponseEntity.ok(wishProducts);
+        var wishProducts = wishProductService.getWishProducts(memberId, Cursor.getLastId(after, pageable), pageable);
+        var nextCursor = Cursor.getNextCursor(wishProducts, pageable, WishProductResponse::id);
+        if (nextCursor == null) {
+            return ResponseEntity.ok(wishProducts);
+        }
+        return ResponseEntity.ok().header(Cursor.NEXT_CURSOR_HEADER, nextCursor).body(wishProducts);
     }
 
     @DeleteMapping("/{id}")
@@ -11,8 +11,6 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.ResponseEntity;
 
-import java.util.List;
-
 @Tag(name = "카테고리 API")
 public interface CategoryApi {
     @Operation(summary = "새 카테고리를 생성한다.")
@@ -47,7 +45,7 @@ public interface CategoryApi {
             @ApiResponse(responseCode = "401", description = "허용되지 않는 요청", content = @Content(schema = @Schema(hidden = true))),
             @ApiResponse(responseCode = "500", description = "내부 서버의 오류", content = @Content(schema = @Schema(hidden = true)))
     })
-    ResponseEntity<List<CategoryResponse>> getCategories();
+    ResponseEntity<byte[]> getCategories();
 
     @Operation(summary = "특정 카테고리를 삭제한다.")
     @ApiResponses(value = {
@@ -1,5 +1,6 @@
 package gift.controller.api;
 
+import gift.dto.giftorder.GiftOrderBatchRequest;
 import gift.dto.giftorder.GiftOrderRequest;
 import gift.dto.giftorder.GiftOrderResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -26,6 +27,16 @@ public interface GiftOrderApi {
     })
     ResponseEntity<GiftOrderResponse> orderOption(GiftOrderRequest giftOrderRequest);
 
+    @Operation(summary = "회원의 여러 주문을 한 번에 생성한다.", description = "모든 옵션의 재고를 옵션 id 순서대로 차감하고, 하나라도 실패하면 전체 주문이 취소된다. 카카오 메시지는 한 번만 전송된다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "주문 생성 성공", content = @Content(array = @ArraySchema(schema = @Schema(implementation = GiftOrderResponse.class)))),
+            @ApiResponse(responseCode = "400", description = "주문 생성 실패(사유 : 재고나 포인트가 부족하거나 주문 정보가 잘못되었습니다.)", content = @Content(schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "401", description = "허용되지 않는 요청", content = @Content(schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "404", description = "주문 생성 실패(사유 : 존재하지 않는 옵션이 포함되어 있습니다.)", content = @Content(schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "500", description = "내부 서버의 오류", content = @Content(schema = @Schema(hidden = true)))
+    })
+    ResponseEntity<List<GiftOrderResponse>> orderOptions(GiftOrderBatchRequest giftOrderBatchRequest);
+
     @Operation(summary = "회원의 특정 주문을 조회한다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "특정 주문 조회 성공", content = @Content(schema = @Schema(implementation = GiftOrderResponse.class))),
@@ -34,13 +45,13 @@ public interface GiftOrderApi {
     })
     ResponseEntity<GiftOrderResponse> getOrder(Long id);
 
-    @Operation(summary = "회원의 모든 주문을 페이지 단위로 조회한다.")
+    @Operation(summary = "회원의 모든 주문을 페이지 단위로 조회한다.", description = "after 커서를 주면 해당 위치 다음부터 조회하고, 다음 커서는 X-Next-Cursor 헤더로 전달한다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "모든 주문 조회 성공", content = @Content(array = @ArraySchema(schema = @Schema(implementation = GiftOrderResponse.class)))),
             @ApiResponse(responseCode = "401", description = "허용되지 않는 요청", content = @Content(schema = @Schema(hidden = true))),
             @ApiResponse(responseCode = "500", description = "내부 서버의 오류", content = @Content(schema = @Schema(hidden = true)))
     })
-    ResponseEntity<List<GiftOrderResponse>> getOrders(Pageable pageable);
+    ResponseEntity<List<GiftOrderResponse>> getOrders(String after, Pageable pageable);
 
     @Operation(summary = "특정 주문을 삭제한다.")
     @ApiResponses(value = {
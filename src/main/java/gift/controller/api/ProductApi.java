@@ -1,6 +1,7 @@
 package gift.controller.api;
 
 import gift.dto.product.ProductAddRequest;
+import gift.dto.product.ProductImportResponse;
 import gift.dto.product.ProductResponse;
 import gift.dto.product.ProductUpdateRequest;
 import io.swagger.v3.oas.annotations.Operation;
@@ -13,6 +14,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 
+import java.io.InputStream;
 import java.util.List;
 
 @Tag(name = "상품 API")
@@ -27,6 +29,24 @@ public interface ProductApi {
     })
     ResponseEntity<ProductResponse> addProduct(ProductAddRequest productAddRequest);
 
+    @Operation(summary = "상품 목록을 한 번에 등록한다.", description = "application/x-ndjson(한 줄에 상품 하나) 또는 text/csv(name,price,imageUrl,categoryId,optionName,optionQuantity 헤더, 한 줄에 옵션 하나) 형식을 받는다. 같은 카테고리에 같은 이름의 상품이 있으면 옵션만 추가하고, 실패한 행은 줄 번호와 사유로 응답한다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "상품 목록 등록 완료", content = @Content(schema = @Schema(implementation = ProductImportResponse.class))),
+            @ApiResponse(responseCode = "400", description = "상품 목록 등록 실패(사유 : 상품 목록을 읽을 수 없습니다.)", content = @Content(schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "401", description = "허용되지 않는 요청", content = @Content(schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "500", description = "내부 서버의 오류", content = @Content(schema = @Schema(hidden = true)))
+    })
+    ResponseEntity<ProductImportResponse> importProductsWithNdjson(InputStream inputStream);
+
+    @Operation(summary = "CSV 형식의 상품 목록을 한 번에 등록한다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "상품 목록 등록 완료", content = @Content(schema = @Schema(implementation = ProductImportResponse.class))),
+            @ApiResponse(responseCode = "400", description = "상품 목록 등록 실패(사유 : 상품 목록을 읽을 수 없습니다.)", content = @Content(schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "401", description = "허용되지 않는 요청", content = @Content(schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "500", description = "내부 서버의 오류", content = @Content(schema = @Schema(hidden = true)))
+    })
+    ResponseEntity<ProductImportResponse> importProductsWithCsv(InputStream inputStream);
+
     @Operation(summary = "기존 상품을 수정한다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "204", description = "상품 수정 성공"),
@@ -44,13 +64,13 @@ public interface ProductApi {
     })
     ResponseEntity<ProductResponse> getProduct(Long id);
 
-    @Operation(summary = "모든 상품을 페이지 단위로 조회한다.")
+    @Operation(summary = "모든 상품을 페이지 단위로 조회한다.", description = "after 커서를 주면 해당 위치 다음부터 조회하고, 다음 커서는 X-Next-Cursor 헤더로 전달한다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "모든 상품 조회 성공", content = @Content(array = @ArraySchema(schema = @Schema(implementation = ProductResponse.class)))),
             @ApiResponse(responseCode = "401", description = "허용되지 않는 요청", content = @Content(schema = @Schema(hidden = true))),
             @ApiResponse(responseCode = "500", description = "내부 서버의 오류", content = @Content(schema = @Schema(hidden = true)))
     })
-    ResponseEntity<List<ProductResponse>> getProducts(Long categoryId, Pageable pageable);
+    ResponseEntity<List<ProductResponse>> getProducts(Long categoryId, String after, Pageable pageable);
 
     @Operation(summary = "특정 상품을 삭제한다.")
     @ApiResponses(value = {
@@ -34,13 +34,13 @@ public interface WishProductApi {
     })
     ResponseEntity<WishProductResponse> getWishProduct(Long id);
 
-    @Operation(summary = "회원의 위시 리스트에 있는 상품을 페이지 단위로 조회한다.")
+    @Operation(summary = "회원의 위시 리스트에 있는 상품을 페이지 단위로 조회한다.", description = "after 커서를 주면 해당 위치 다음부터 조회하고, 다음 커서는 X-Next-Cursor 헤더로 전달한다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "모든 위시 리스트 조회 성공", content = @Content(array = @ArraySchema(schema = @Schema(implementation = WishProductResponse.class)))),
             @ApiResponse(responseCode = "401", description = "허용되지 않는 요청", content = @Content(schema = @Schema(hidden = true))),
             @ApiResponse(responseCode = "500", description = "내부 서버의 오류", content = @Content(schema = @Schema(hidden = true)))
     })
-    ResponseEntity<List<WishProductResponse>> getWishProducts(Pageable pageable);
+    ResponseEntity<List<WishProductResponse>> getWishProducts(String after, Pageable pageable);
 
     @Operation(summary = "회원의 위시 리스트에서 상품을 삭제한다.")
     @ApiResponses(value = {
@@ -0,0 +1,9 @@
+package gift.dto.auth;
+
+import gift.model.MemberRole;
+
+public record MemberPrincipal(Long memberId, MemberRole memberRole, String email, Long expiresAt) {
+    public static MemberPrincipal of(Long memberId, MemberRole memberRole, String email, Long expiresAt) {
+        return new MemberPrincipal(memberId, memberRole, email, expiresAt);
+    }
+}
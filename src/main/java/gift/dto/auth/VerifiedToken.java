@@ -0,0 +1,7 @@
+package gift.dto.auth;
+
+public record VerifiedToken(Long memberId, Long expiresAt) {
+    public static VerifiedToken of(Long memberId, Long expiresAt) {
+        return new VerifiedToken(memberId, expiresAt);
+    }
+}
@@ -0,0 +1,55 @@
+package gift.dto.cursor;
+
+import gift.exception.BadRequestException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+public record Cursor(Long lastId) {
+
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final String ID_SORT_KEY = "id:";
+    private static final Sort CURSOR_SORT = Sort.by(Sort.Direction.DESC, "id");
+
+    public static Cursor decode(String after) {
+        if (after == null || after.isBlank()) return null;
+        try {
+            var decoded = new String(Base64.getUrlDecoder().decode(after), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(ID_SORT_KEY)) {
+                throw new BadRequestException("유효하지 않은 커서입니다.");
+            }
+            return new Cursor(Long.parseLong(decoded.substring(ID_SORT_KEY.length())));
+        } catch (IllegalArgumentException exception) {
+            throw new BadRequestException("유효하지 않은 커서입니다.");
+        }
+    }
+
+    public static Long getLastId(String after, Pageable pageable) {
+        var cursor = decode(after);
+        if (cursor == null) return null;
+        if (!isCursorSort(pageable)) {
+            throw new BadRequestException("커서는 id 내림차순 정렬에서만 사용할 수 있습니다.");
+        }
+        return cursor.lastId();
+    }
+
+    public static <T> String getNextCursor(List<T> contents, Pageable pageable, Function<T, Long> idExtractor) {
+        if (!isCursorSort(pageable)) return null;
+        if (contents.isEmpty() || contents.size() < pageable.getPageSize()) return null;
+        var lastId = idExtractor.apply(contents.get(contents.size() - 1));
+        return new Cursor(lastId).encode();
+    }
+
+    private static boolean isCursorSort(Pageable pageable) {
+        return CURSOR_SORT.equals(pageable.getSort());
+    }
+
+    public String encode() {
+        var value = ID_SORT_KEY + lastId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
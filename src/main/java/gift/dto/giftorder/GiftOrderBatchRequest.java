@@ -0,0 +1,14 @@
+package gift.dto.giftorder;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record GiftOrderBatchRequest(
+        @NotEmpty(message = "주문할 상품 옵션은 반드시 1개 이상 존재해야 합니다.")
+        @Size(max = 100, message = "한 번에 주문할 수 있는 상품 옵션은 100개 이하입니다.")
+        List<@Valid GiftOrderRequest> orders
+) {
+}
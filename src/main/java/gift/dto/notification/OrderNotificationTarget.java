@@ -0,0 +1,4 @@
+package gift.dto.notification;
+
+public record OrderNotificationTarget(Long id, Long memberId) {
+}
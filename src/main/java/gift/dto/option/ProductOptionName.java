@@ -0,0 +1,7 @@
+package gift.dto.option;
+
+public record ProductOptionName(
+        Long productId,
+        String name
+) {
+}
@@ -0,0 +1,10 @@
+package gift.dto.point;
+
+public record PointCharge(
+        Long memberId,
+        Integer point
+) {
+    public static PointCharge of(Long memberId, Integer point) {
+        return new PointCharge(memberId, point);
+    }
+}
@@ -0,0 +1,8 @@
+package gift.dto.point;
+
+public record PointDrift(
+        Long memberId,
+        Integer balance,
+        Long ledgerPoint
+) {
+}
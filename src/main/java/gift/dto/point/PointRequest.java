@@ -1,8 +1,10 @@
 package gift.dto.point;
 
+import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 
 public record PointRequest(
+        @NotNull(message = "포인트는 반드시 입력되어야 합니다.")
         @Positive(message = "포인트는 최소 1원 이상이어야 추가할 수 있습니다.")
         Integer point
 ) {
@@ -0,0 +1,19 @@
+package gift.dto.product;
+
+import gift.dto.option.OptionRequest;
+
+import java.util.List;
+
+public record ProductImportCsvRow(
+        String name,
+        Integer price,
+        String imageUrl,
+        Long categoryId,
+        String optionName,
+        Integer optionQuantity
+) {
+    public ProductAddRequest toProductAddRequest() {
+        var option = new OptionRequest(optionName, optionQuantity);
+        return new ProductAddRequest(name, price, imageUrl, categoryId, List.of(option));
+    }
+}
@@ -0,0 +1,10 @@
+package gift.dto.product;
+
+public record ProductImportError(
+        Long line,
+        String message
+) {
+    public static ProductImportError of(Long line, String message) {
+        return new ProductImportError(line, message);
+    }
+}
@@ -0,0 +1,6 @@
+package gift.dto.product;
+
+public enum ProductImportFormat {
+    NDJSON,
+    CSV
+}
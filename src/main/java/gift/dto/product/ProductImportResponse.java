@@ -0,0 +1,13 @@
+package gift.dto.product;
+
+import java.util.List;
+
+public record ProductImportResponse(
+        Integer importedCount,
+        Integer failedCount,
+        List<ProductImportError> errors
+) {
+    public static ProductImportResponse of(Integer importedCount, List<ProductImportError> errors) {
+        return new ProductImportResponse(importedCount, errors.size(), errors);
+    }
+}
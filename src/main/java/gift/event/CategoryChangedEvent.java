@@ -0,0 +1,7 @@
+package gift.event;
+
+public record CategoryChangedEvent(Long categoryId) {
+    public static CategoryChangedEvent of(Long categoryId) {
+        return new CategoryChangedEvent(categoryId);
+    }
+}
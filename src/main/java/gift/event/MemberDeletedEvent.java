@@ -0,0 +1,7 @@
+package gift.event;
+
+public record MemberDeletedEvent(Long memberId) {
+    public static MemberDeletedEvent of(Long memberId) {
+        return new MemberDeletedEvent(memberId);
+    }
+}
@@ -0,0 +1,7 @@
+package gift.event;
+
+public record ProductChangedEvent(Long productId) {
+    public static ProductChangedEvent of(Long productId) {
+        return new ProductChangedEvent(productId);
+    }
+}
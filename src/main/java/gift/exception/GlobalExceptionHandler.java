@@ -71,6 +71,11 @@ public class GlobalExceptionHandler {
         return getExceptionResponse(exception.getMessage(), HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(value = ServiceUnavailableException.class)
+    public ResponseEntity<ExceptionResponse> serviceUnavailableExceptionHandling(ServiceUnavailableException exception) {
+        return getExceptionResponse(exception.getMessage(), HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
     @ExceptionHandler(value = MethodArgumentNotValidException.class)
     public ResponseEntity<ExceptionResponse> methodArgumentNotValidExceptionHandling(MethodArgumentNotValidException exception) {
         BindingResult bindingResult = exception.getBindingResult();
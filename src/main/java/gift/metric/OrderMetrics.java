@@ -0,0 +1,46 @@
+package gift.metric;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 주문 한 건을 옵션 조회, 포인트 차감, 주문 저장, 위시 리스트 삭제, 알림 적재, 재고 차감 단계로 나누어 시간을 잰다.
+ * 재고 차감은 조건부 UPDATE 한 번으로 처리되므로 행 잠금 대기 시간이 stock_update 에 함께 포함된다.
+ * order_insert 는 주문 엔티티를 영속화하는 시간만 재며, 실제 INSERT 는 이후 flush(재고 차감 UPDATE 직전 또는 커밋) 시점에 실행된다.
+ */
+@Component
+public class OrderMetrics {
+
+    private final Map<OrderPhase, Timer> phaseTimers = new EnumMap<>(OrderPhase.class);
+    private final Counter stockRejections;
+
+    public OrderMetrics(MeterRegistry meterRegistry) {
+        for (var orderPhase : OrderPhase.values()) {
+            phaseTimers.put(orderPhase, Timer.builder("gift.order.phase")
+                    .description("주문 처리 단계별 소요 시간")
+                    .tag("phase", orderPhase.getTag())
+                    .register(meterRegistry));
+        }
+        this.stockRejections = Counter.builder("gift.order.stock.rejected")
+                .description("재고 부족으로 거절된 주문 수")
+                .register(meterRegistry);
+    }
+
+    public <T> T record(OrderPhase orderPhase, Supplier<T> supplier) {
+        return phaseTimers.get(orderPhase).record(supplier);
+    }
+
+    public void record(OrderPhase orderPhase, Runnable runnable) {
+        phaseTimers.get(orderPhase).record(runnable);
+    }
+
+    public void countStockRejection() {
+        stockRejections.increment();
+    }
+}
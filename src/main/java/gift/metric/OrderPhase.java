@@ -0,0 +1,19 @@
+package gift.metric;
+
+import lombok.Getter;
+
+@Getter
+public enum OrderPhase {
+    OPTION_LOOKUP("option_lookup"),
+    POINT("point"),
+    ORDER_INSERT("order_insert"),
+    WISH_DELETE("wish_delete"),
+    NOTIFICATION("notification"),
+    STOCK_UPDATE("stock_update");
+
+    private final String tag;
+
+    OrderPhase(String tag) {
+        this.tag = tag;
+    }
+}
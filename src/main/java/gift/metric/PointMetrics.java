@@ -0,0 +1,54 @@
+package gift.metric;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * 포인트 잔액 조회와 충전/사용 시간을 재고, 충전/사용된 포인트 양을 함께 기록한다.
+ */
+@Component
+public class PointMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final Timer balanceTimer;
+
+    public PointMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.balanceTimer = Timer.builder("gift.point.balance")
+                .description("포인트 잔액 조회 시간")
+                .register(meterRegistry);
+    }
+
+    public <T> T recordBalance(Supplier<T> supplier) {
+        return balanceTimer.record(supplier);
+    }
+
+    public <T> T recordMutation(String type, long point, Supplier<T> supplier) {
+        var result = getMutationTimer(type).record(supplier);
+        getMutationSummary(type).record(point);
+        return result;
+    }
+
+    public void recordMutation(String type, long point, Runnable runnable) {
+        getMutationTimer(type).record(runnable);
+        getMutationSummary(type).record(point);
+    }
+
+    private Timer getMutationTimer(String type) {
+        return Timer.builder("gift.point.mutation")
+                .description("포인트 충전/사용 시간")
+                .tag("type", type)
+                .register(meterRegistry);
+    }
+
+    private DistributionSummary getMutationSummary(String type) {
+        return DistributionSummary.builder("gift.point.mutation.amount")
+                .description("충전/사용된 포인트 양")
+                .tag("type", type)
+                .register(meterRegistry);
+    }
+}
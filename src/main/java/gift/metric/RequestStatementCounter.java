@@ -0,0 +1,37 @@
+package gift.metric;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate 가 준비하는 SQL 문을 요청 스레드별로 센다.
+ * {@link #start()} 와 {@link #stop()} 사이에 실행된 문장만 세며, 요청 밖(스케줄러, 비동기 작업)의 문장은 세지 않는다.
+ */
+public class RequestStatementCounter implements StatementInspector {
+
+    private final ThreadLocal<int[]> statementCounts = new ThreadLocal<>();
+
+    public void start() {
+        statementCounts.set(new int[1]);
+    }
+
+    public int stop() {
+        var statementCount = getStatementCount();
+        statementCounts.remove();
+        return statementCount;
+    }
+
+    public int getStatementCount() {
+        var statementCount = statementCounts.get();
+        if (statementCount == null) return 0;
+        return statementCount[0];
+    }
+
+    @Override
+    public String inspect(String sql) {
+        var statementCount = statementCounts.get();
+        if (statementCount != null) {
+            statementCount[0]++;
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,28 @@
+package gift.metric;
+
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * statement-budget.record-violations 가 켜져 있을 때(테스트) SQL 문 예산을 넘은 요청을 모아 두고, 테스트가 검사할 수 있게 돌려준다.
+ */
+@Component
+public class StatementBudgetViolations {
+
+    private final Queue<String> violations = new ConcurrentLinkedQueue<>();
+
+    public List<String> getViolations() {
+        return List.copyOf(violations);
+    }
+
+    public void clear() {
+        violations.clear();
+    }
+
+    void record(String message) {
+        violations.add(message);
+    }
+}
@@ -0,0 +1,92 @@
+package gift.metric;
+
+import gift.config.properties.StatementBudgetProperties;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+
+/**
+ * 요청 하나가 인증 필터부터 응답까지 실행한 SQL 문 수를 요청 메서드와 URI 패턴별 분포로 기록한다.
+ * URI 패턴별 예산(statement-budget.endpoints, 없으면 statement-budget.default-budget)을 넘으면 경고를 남기고,
+ * statement-budget.record-violations 가 켜져 있으면(테스트) 넘은 요청을 {@link StatementBudgetViolations} 에 기록한다.
+ * statement-budget.expose-header 가 켜져 있으면(dev 프로필) 실행한 문장 수를 X-Statement-Count 응답 헤더로 돌려준다.
+ * 예산 검사는 응답 헤더와 본문을 모두 쓴 뒤에 하므로 응답을 바꾸지 않는다.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class StatementCountFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENT_COUNT_HEADER = "X-Statement-Count";
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final RequestStatementCounter requestStatementCounter;
+    private final MeterRegistry meterRegistry;
+    private final StatementBudgetProperties statementBudgetProperties;
+    private final StatementBudgetViolations statementBudgetViolations;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        if (!statementBudgetProperties.exposeHeader()) {
+            var statementCount = countStatements(request, response, filterChain);
+            checkStatementBudget(request, statementCount);
+            return;
+        }
+        var responseWrapper = new ContentCachingResponseWrapper(response);
+        var statementCount = countStatements(request, responseWrapper, filterChain);
+        responseWrapper.setHeader(STATEMENT_COUNT_HEADER, String.valueOf(statementCount));
+        responseWrapper.copyBodyToResponse();
+        checkStatementBudget(request, statementCount);
+    }
+
+    private int countStatements(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        requestStatementCounter.start();
+        var statementCount = 0;
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            statementCount = requestStatementCounter.stop();
+            getStatementSummary(request).record(statementCount);
+        }
+        return statementCount;
+    }
+
+    private void checkStatementBudget(HttpServletRequest request, int statementCount) {
+        var uriPattern = getUriPattern(request);
+        var budget = statementBudgetProperties.getBudget(uriPattern);
+        if (statementCount <= budget) return;
+        var message = String.format("%s %s 요청이 SQL 문 예산 %d 개를 넘어 %d 개의 문장을 실행했습니다.", request.getMethod(), uriPattern, budget, statementCount);
+        log.warn(message);
+        if (statementBudgetProperties.recordViolations()) {
+            statementBudgetViolations.record(message);
+        }
+    }
+
+    private DistributionSummary getStatementSummary(HttpServletRequest request) {
+        return DistributionSummary.builder("gift.http.statements")
+                .description("요청 하나가 실행한 SQL 문 수")
+                .tag("method", request.getMethod())
+                .tag("uri", getUriPattern(request))
+                .register(meterRegistry);
+    }
+
+    private String getUriPattern(HttpServletRequest request) {
+        var uriPattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (uriPattern == null) return UNKNOWN_URI;
+        return uriPattern.toString();
+    }
+}
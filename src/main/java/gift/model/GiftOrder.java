@@ -3,6 +3,7 @@ package gift.model;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -13,7 +14,7 @@ import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.SQLRestriction;
 
 @Entity
-@Table(name = "gift_order")
+@Table(name = "gift_order", indexes = @Index(name = "idx_gift_order_member_id_deleted_id", columnList = "member_id, deleted, id"))
 @Getter
 @SQLDelete(sql = "update gift_order set deleted = true where id = ?")
 @SQLRestriction("deleted is false")
@@ -37,12 +37,4 @@ public class MemberPoint extends BaseEntity {
         this.member = member;
         this.point = point;
     }
-
-    public void addPoint(Integer additionalPoint) {
-        this.point = point + additionalPoint;
-    }
-
-    public void subtractPoint(Integer subtractPoint) {
-        this.point = point - subtractPoint;
-    }
 }
@@ -0,0 +1,31 @@
+package gift.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+
+@Entity
+@Table(name = "member_point_balance")
+@Getter
+public class MemberPointBalance extends BaseEntity {
+    @NotNull
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "member_id", referencedColumnName = "id", unique = true)
+    private Member member;
+    @NotNull
+    @Column(name = "balance")
+    private Integer balance;
+
+    protected MemberPointBalance() {
+    }
+
+    public MemberPointBalance(Member member, Integer balance) {
+        this.member = member;
+        this.balance = balance;
+    }
+}
@@ -0,0 +1,7 @@
+package gift.model;
+
+public enum NotificationStatus {
+    PENDING,
+    SENT,
+    FAILED
+}
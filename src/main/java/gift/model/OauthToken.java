@@ -25,14 +25,14 @@ public class OauthToken extends BaseEntity {
     @Column(name = "access_token")
     private String accessToken;
     @NotNull
-    @Column(name = "access_token_expires_in")
-    private Integer accessTokenExpiresIn;
+    @Column(name = "access_token_expired_at")
+    private LocalDateTime accessTokenExpiredAt;
     @NotNull
     @Column(name = "refresh_token")
     private String refreshToken;
     @NotNull
-    @Column(name = "refresh_token_expires_in")
-    private Integer refreshTokenExpiresIn;
+    @Column(name = "refresh_token_expired_at")
+    private LocalDateTime refreshTokenExpiredAt;
     @NotNull
     @Enumerated(value = EnumType.STRING)
     @Column(name = "oauth_type")
@@ -45,29 +45,29 @@ public class OauthToken extends BaseEntity {
         this.member = member;
         this.oauthType = oauthType;
         this.accessToken = accessToken;
-        this.accessTokenExpiresIn = accessTokenExpiresIn;
+        this.accessTokenExpiredAt = LocalDateTime.now().plusSeconds(accessTokenExpiresIn);
         this.refreshToken = refreshToken;
-        this.refreshTokenExpiresIn = refreshTokenExpiresIn;
+        this.refreshTokenExpiredAt = LocalDateTime.now().plusSeconds(refreshTokenExpiresIn);
     }
 
     public void updateToken(String accessToken, Integer accessTokenExpiresIn, String refreshToken, Integer refreshTokenExpiresIn) {
         this.accessToken = accessToken;
-        this.accessTokenExpiresIn = accessTokenExpiresIn;
+        this.accessTokenExpiredAt = LocalDateTime.now().plusSeconds(accessTokenExpiresIn);
         if (refreshToken != null) {
             this.refreshToken = refreshToken;
-            this.refreshTokenExpiresIn = refreshTokenExpiresIn;
+            this.refreshTokenExpiredAt = LocalDateTime.now().plusSeconds(refreshTokenExpiresIn);
         }
     }
 
     public Boolean canUseAccessToken() {
-        if (super.getCreatedDate().plusSeconds(accessTokenExpiresIn).isAfter(LocalDateTime.now())) {
+        if (accessTokenExpiredAt.isAfter(LocalDateTime.now())) {
             return Boolean.TRUE;
         }
         return Boolean.FALSE;
     }
 
     public Boolean canUseRefreshToken() {
-        if (super.getCreatedDate().plusSeconds(refreshTokenExpiresIn).isAfter(LocalDateTime.now())) {
+        if (refreshTokenExpiredAt.isAfter(LocalDateTime.now())) {
             return Boolean.TRUE;
         }
         return Boolean.FALSE;
@@ -49,9 +49,13 @@ public class Option extends BaseEntity {
     }
 
     public void subtract(Integer subQuantity) {
+        quantityCheck(subQuantity);
+        this.quantity = quantity - subQuantity;
+    }
+
+    public void quantityCheck(Integer subQuantity) {
         if (subQuantity > quantity) {
             throw new BadRequestException("주문량이 옵션의 잔여 갯수를 초과합니다");
         }
-        this.quantity = quantity - subQuantity;
     }
 }
@@ -0,0 +1,69 @@
+package gift.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.JoinTable;
+import jakarta.persistence.ManyToMany;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Entity
+@Table(name = "order_notification", indexes = @Index(name = "idx_order_notification_status_next_attempt_at", columnList = "status, next_attempt_at"))
+@Getter
+public class OrderNotification extends BaseEntity {
+    @NotNull
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "member_id", referencedColumnName = "id")
+    private Member member;
+    @ManyToMany(fetch = FetchType.LAZY)
+    @JoinTable(name = "order_notification_gift_order",
+            joinColumns = @JoinColumn(name = "order_notification_id", referencedColumnName = "id"),
+            inverseJoinColumns = @JoinColumn(name = "gift_order_id", referencedColumnName = "id"))
+    private List<GiftOrder> giftOrders = new ArrayList<>();
+    @NotNull
+    @Enumerated(value = EnumType.STRING)
+    @Column(name = "status")
+    private NotificationStatus status = NotificationStatus.PENDING;
+    @NotNull
+    @Column(name = "attempt_count")
+    private Integer attemptCount = 0;
+    @NotNull
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    protected OrderNotification() {
+    }
+
+    public OrderNotification(Member member, List<GiftOrder> giftOrders) {
+        this.member = member;
+        this.giftOrders.addAll(giftOrders);
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+
+    public void markSent() {
+        this.status = NotificationStatus.SENT;
+    }
+
+    public void retryOrFail(Integer maxAttempts, LocalDateTime nextAttemptAt) {
+        if (attemptCount >= maxAttempts) {
+            this.status = NotificationStatus.FAILED;
+            return;
+        }
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public void markFailed() {
+        this.status = NotificationStatus.FAILED;
+    }
+}
@@ -0,0 +1,17 @@
+package gift.model;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * id 를 {@link PooledSequenceIdGenerator} 로 테이블별 시퀀스에서 pooled-lo 방식으로 할당받는다.
+ */
+@IdGeneratorType(PooledSequenceIdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface PooledSequence {
+}
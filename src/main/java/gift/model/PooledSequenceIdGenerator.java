@@ -0,0 +1,34 @@
+package gift.model;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.id.PersistentIdentifierGenerator;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.util.Properties;
+
+/**
+ * 테이블마다 {@code <테이블명>_seq} 시퀀스를 두고 pooled-lo 방식으로 id 를 미리 할당받는다.
+ * 할당 크기는 {@code gift.id.increment-size} 로 정하고, {@code gift.id.increment-size.<테이블명>} 으로 테이블별로 바꿀 수 있다.
+ */
+public class PooledSequenceIdGenerator extends SequenceStyleGenerator {
+
+    public static final String INCREMENT_SIZE_SETTING = "gift.id.increment-size";
+    private static final String SEQUENCE_SUFFIX = "_seq";
+    private static final String POOLED_LO_OPTIMIZER = "pooled-lo";
+    private static final int DEFAULT_INCREMENT_SIZE = 50;
+
+    @Override
+    public void configure(Type type, Properties parameters, ServiceRegistry serviceRegistry) {
+        var settings = serviceRegistry.getService(ConfigurationService.class).getSettings();
+        var tableName = parameters.getProperty(PersistentIdentifierGenerator.TABLE);
+        var defaultIncrementSize = ConfigurationHelper.getInt(INCREMENT_SIZE_SETTING, settings, DEFAULT_INCREMENT_SIZE);
+        var incrementSize = ConfigurationHelper.getInt(INCREMENT_SIZE_SETTING + "." + tableName, settings, defaultIncrementSize);
+        parameters.setProperty(SEQUENCE_PARAM, tableName + SEQUENCE_SUFFIX);
+        parameters.setProperty(INCREMENT_PARAM, String.valueOf(incrementSize));
+        parameters.setProperty(OPT_PARAM, POOLED_LO_OPTIMIZER);
+        super.configure(type, parameters, serviceRegistry);
+    }
+}
@@ -1,16 +1,33 @@
 package gift.repository;
 
 import gift.model.GiftOrder;
+import gift.repository.custom.GiftOrderRepositoryCustom;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 
-public interface GiftOrderRepository extends JpaRepository<GiftOrder, Long> {
-
-    List<GiftOrder> findAllByMemberId(Long memberId, Pageable pageable);
+public interface GiftOrderRepository extends JpaRepository<GiftOrder, Long>, GiftOrderRepositoryCustom {
 
     void deleteAllByOptionId(Long optionId);
 
-    void deleteAllByMemberId(Long memberId);
+    @Modifying
+    @Query(value = "update GiftOrder g set g.deleted = true where g.member.id = :memberId and g.deleted = false")
+    int deleteAllByMemberId(Long memberId);
+
+    @Query(value = "select g.id from GiftOrder g where g.member.id = :memberId order by g.id")
+    List<Long> findIdsByMemberId(Long memberId, Pageable pageable);
+
+    @Query(value = "select g.id from gift_order g join member m on m.id = g.member_id where m.deleted is true and g.deleted is false order by g.id", nativeQuery = true)
+    List<Long> findIdsOfDeletedMembers(Pageable pageable);
+
+    @Modifying
+    @Query(value = "update GiftOrder g set g.deleted = true where g.id in :ids and g.deleted = false")
+    int deleteAllByIdIn(List<Long> ids);
+
+    @Modifying
+    @Query(value = "update GiftOrder g set g.deleted = true where g.option.id in (select o.id from Option o where o.product.id in :productIds) and g.deleted = false")
+    int deleteAllByProductIds(List<Long> productIds);
 }
@@ -0,0 +1,26 @@
+package gift.repository;
+
+import gift.model.MemberPointBalance;
+import gift.repository.custom.MemberPointBalanceRepositoryCustom;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Optional;
+
+public interface MemberPointBalanceRepository extends JpaRepository<MemberPointBalance, Long>, MemberPointBalanceRepositoryCustom {
+    @Query(value = "select b.balance from MemberPointBalance b where b.member.id = :memberId")
+    Optional<Integer> findBalanceByMemberId(Long memberId);
+
+    @Modifying
+    @Query(value = "update MemberPointBalance b set b.balance = b.balance + :point where b.member.id = :memberId")
+    int increaseBalance(Long memberId, Integer point);
+
+    @Modifying
+    @Query(value = "update MemberPointBalance b set b.balance = b.balance - :point where b.member.id = :memberId and b.balance >= :point")
+    int decreaseBalance(Long memberId, Integer point);
+
+    @Modifying
+    @Query(value = "update member_point_balance set balance = (select coalesce(sum(p.point), 0) from member_point p where p.member_id = :memberId and p.deleted = false) where member_id = :memberId", nativeQuery = true)
+    int rebuildBalance(Long memberId);
+}
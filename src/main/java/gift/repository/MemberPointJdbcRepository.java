@@ -0,0 +1,36 @@
+package gift.repository;
+
+import gift.dto.point.PointCharge;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class MemberPointJdbcRepository {
+
+    private static final String INSERT_MEMBER_POINT_SQL = "insert into member_point(id, member_id, point, deleted, created_date, last_modified_date) values (next value for member_point_seq, ?, ?, false, ?, ?)";
+    private static final String INCREASE_BALANCE_SQL = "update member_point_balance set balance = balance + ?, last_modified_date = ? where member_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void saveAll(List<PointCharge> pointCharges) {
+        var now = Timestamp.valueOf(LocalDateTime.now());
+        var batchArgs = pointCharges.stream()
+                .map(pointCharge -> new Object[]{pointCharge.memberId(), pointCharge.point(), now, now})
+                .toList();
+        jdbcTemplate.batchUpdate(INSERT_MEMBER_POINT_SQL, batchArgs);
+    }
+
+    public int[] increaseBalances(List<PointCharge> pointCharges) {
+        var now = Timestamp.valueOf(LocalDateTime.now());
+        var batchArgs = pointCharges.stream()
+                .map(pointCharge -> new Object[]{pointCharge.point(), now, pointCharge.memberId()})
+                .toList();
+        return jdbcTemplate.batchUpdate(INCREASE_BALANCE_SQL, batchArgs);
+    }
+}
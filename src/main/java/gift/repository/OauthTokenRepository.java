@@ -3,14 +3,21 @@ package gift.repository;
 import gift.model.OauthToken;
 import gift.model.OauthType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 public interface OauthTokenRepository extends JpaRepository<OauthToken, Long> {
 
-    boolean existsByMemberIdAndOauthType(Long memberId, OauthType oauthType);
-
     Optional<OauthToken> findByMemberIdAndOauthType(Long memberId, OauthType oauthType);
 
-    void deleteAllByMemberId(Long memberId);
+    @Modifying
+    @Query(value = "update OauthToken t set t.accessToken = :accessToken, t.accessTokenExpiredAt = :accessTokenExpiredAt, t.refreshToken = :refreshToken, t.refreshTokenExpiredAt = :refreshTokenExpiredAt, t.lastModifiedDate = local datetime where t.member.id = :memberId and t.oauthType = :oauthType")
+    int updateToken(Long memberId, OauthType oauthType, String accessToken, LocalDateTime accessTokenExpiredAt, String refreshToken, LocalDateTime refreshTokenExpiredAt);
+
+    @Modifying
+    @Query(value = "delete from OauthToken t where t.member.id = :memberId")
+    int deleteAllByMemberId(Long memberId);
 }
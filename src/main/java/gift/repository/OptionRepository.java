@@ -1,9 +1,11 @@
 package gift.repository;
 
+import gift.dto.option.ProductOptionName;
 import gift.model.Option;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
@@ -14,9 +16,25 @@ public interface OptionRepository extends JpaRepository<Option, Long> {
 
     boolean existsOptionByProductIdAndName(Long productId, String name);
 
-    void deleteAllByProductId(Long productId);
+    @Query(value = "select new gift.dto.option.ProductOptionName(o.product.id, o.name) from Option o where o.product.id in :productIds")
+    List<ProductOptionName> findOptionNamesByProductIds(List<Long> productIds);
+
+    @Query(value = "select o.id from Option o where o.product.id in :productIds")
+    List<Long> findIdsByProductIds(List<Long> productIds);
+
+    @Modifying
+    @Query(value = "update Option o set o.deleted = true where o.product.id in :productIds and o.deleted = false")
+    int deleteAllByProductIds(List<Long> productIds);
 
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query(value = "select o from Option o where o.id = :id")
     Optional<Option> findByIdWithLock(Long id);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "update Option o set o.quantity = o.quantity - :quantity where o.id = :id and o.quantity >= :quantity and o.deleted = false")
+    int subtractQuantity(Long id, Integer quantity);
+
+    @Modifying
+    @Query(value = "update Option o set o.quantity = o.quantity + :quantity where o.id = :id")
+    int addQuantity(Long id, Integer quantity);
 }
@@ -0,0 +1,28 @@
+package gift.repository;
+
+import gift.dto.notification.OrderNotificationTarget;
+import gift.model.NotificationStatus;
+import gift.model.OrderNotification;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface OrderNotificationRepository extends JpaRepository<OrderNotification, Long> {
+    @Query(value = "select n from OrderNotification n join n.giftOrders g where g.id = :giftOrderId")
+    Optional<OrderNotification> findByGiftOrderId(Long giftOrderId);
+
+    @Query(value = "select g.id from OrderNotification n join n.giftOrders g where n.id = :id order by g.id")
+    List<Long> findGiftOrderIdsById(Long id);
+
+    @Query(value = "select new gift.dto.notification.OrderNotificationTarget(n.id, n.member.id) from OrderNotification n where n.status = :status and n.nextAttemptAt <= :now order by n.nextAttemptAt")
+    List<OrderNotificationTarget> findDispatchableTargets(NotificationStatus status, LocalDateTime now, Pageable pageable);
+
+    @Modifying
+    @Query(value = "update OrderNotification n set n.nextAttemptAt = :leaseUntil, n.attemptCount = n.attemptCount + 1 where n.id = :id and n.status = :status and n.nextAttemptAt <= :now")
+    int claim(Long id, NotificationStatus status, LocalDateTime now, LocalDateTime leaseUntil);
+}
@@ -1,13 +1,37 @@
 package gift.repository;
 
 import gift.model.Product;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 
 public interface ProductRepository extends JpaRepository<Product, Long> {
-    List<Product> findAllByCategoryId(Long categoryId);
+    @EntityGraph(attributePaths = "category")
+    Page<Product> findAll(Pageable pageable);
 
+    @EntityGraph(attributePaths = "category")
     List<Product> findAllByCategoryId(Long categoryId, Pageable pageable);
+
+    @Query(value = "select p.id from Product p where p.category.id = :categoryId order by p.id")
+    List<Long> findIdsByCategoryId(Long categoryId, Pageable pageable);
+
+    @Query(value = "select p.id from product p join category c on c.id = p.category_id where c.deleted is true and p.deleted is false order by p.id", nativeQuery = true)
+    List<Long> findIdsOfDeletedCategories(Pageable pageable);
+
+    List<Product> findAllByCategoryIdInAndNameIn(List<Long> categoryIds, List<String> names);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "update Product p set p.deleted = true where p.id in :productIds and p.deleted = false")
+    int deleteAllByIdIn(List<Long> productIds);
+
+    @EntityGraph(attributePaths = "category")
+    List<Product> findAllByIdLessThan(Long id, Pageable pageable);
+
+    @EntityGraph(attributePaths = "category")
+    List<Product> findAllByCategoryIdAndIdLessThan(Long categoryId, Long id, Pageable pageable);
 }
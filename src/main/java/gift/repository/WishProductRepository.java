@@ -3,19 +3,36 @@ package gift.repository;
 import gift.model.Member;
 import gift.model.Product;
 import gift.model.WishProduct;
+import gift.repository.custom.WishProductRepositoryCustom;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 
-public interface WishProductRepository extends JpaRepository<WishProduct, Long> {
+public interface WishProductRepository extends JpaRepository<WishProduct, Long>, WishProductRepositoryCustom {
     boolean existsByProductAndMember(Product product, Member member);
 
-    List<WishProduct> findAllByMemberId(Long memberId, Pageable pageable);
+    @Modifying
+    @Query(value = "update WishProduct w set w.deleted = true where w.member.id = :memberId and w.deleted = false")
+    int deleteAllByMemberId(Long memberId);
 
-    void deleteAllByProductId(Long id);
+    @Query(value = "select w.id from WishProduct w where w.member.id = :memberId order by w.id")
+    List<Long> findIdsByMemberId(Long memberId, Pageable pageable);
 
-    void deleteAllByMemberId(Long id);
+    @Query(value = "select w.id from wish_product w join member m on m.id = w.member_id where m.deleted is true and w.deleted is false order by w.id", nativeQuery = true)
+    List<Long> findIdsOfDeletedMembers(Pageable pageable);
 
-    void deleteAllByMemberIdAndProductId(Long memberId, Long productId);
+    @Modifying
+    @Query(value = "update WishProduct w set w.deleted = true where w.id in :ids and w.deleted = false")
+    int deleteAllByIdIn(List<Long> ids);
+
+    @Modifying
+    @Query(value = "update WishProduct w set w.deleted = true where w.member.id = :memberId and w.product.id in :productIds and w.deleted = false")
+    int deleteAllByMemberIdAndProductIds(Long memberId, List<Long> productIds);
+
+    @Modifying
+    @Query(value = "update WishProduct w set w.deleted = true where w.product.id in :productIds and w.deleted = false")
+    int deleteAllByProductIds(List<Long> productIds);
 }
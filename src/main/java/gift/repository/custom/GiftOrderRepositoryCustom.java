@@ -0,0 +1,10 @@
+package gift.repository.custom;
+
+import gift.dto.giftorder.GiftOrderResponse;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+public interface GiftOrderRepositoryCustom {
+    List<GiftOrderResponse> findGiftOrderResponsesByMemberId(Long memberId, Long lastId, Pageable pageable);
+}
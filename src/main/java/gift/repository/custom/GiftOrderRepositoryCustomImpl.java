@@ -0,0 +1,47 @@
+package gift.repository.custom;
+
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import gift.dto.giftorder.GiftOrderResponse;
+import gift.dto.option.OptionResponse;
+import gift.dto.product.ProductBasicInformation;
+import gift.model.QGiftOrder;
+import gift.model.QOption;
+import gift.model.QProduct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+public class GiftOrderRepositoryCustomImpl implements GiftOrderRepositoryCustom {
+
+    private final JPAQueryFactory jpaQueryFactory;
+
+    @Override
+    public List<GiftOrderResponse> findGiftOrderResponsesByMemberId(Long memberId, Long lastId, Pageable pageable) {
+        QGiftOrder giftOrder = QGiftOrder.giftOrder;
+        QOption option = QOption.option;
+        QProduct product = QProduct.product;
+        return jpaQueryFactory.select(getGiftOrderResponseProjection(giftOrder, product))
+                .from(giftOrder)
+                .join(giftOrder.option, option)
+                .join(option.product, product)
+                .where(giftOrder.member.id.eq(memberId), QuerydslPagination.idLessThan(giftOrder.id, lastId))
+                .orderBy(QuerydslPagination.getOrderSpecifiers(giftOrder, giftOrder.id, pageable))
+                .offset(QuerydslPagination.getOffset(lastId, pageable))
+                .limit(pageable.getPageSize())
+                .fetch();
+    }
+
+    private ConstructorExpression<GiftOrderResponse> getGiftOrderResponseProjection(QGiftOrder giftOrder, QProduct product) {
+        return Projections.constructor(GiftOrderResponse.class,
+                giftOrder.id,
+                Projections.constructor(ProductBasicInformation.class, product.id, product.name, product.price),
+                Projections.constructor(OptionResponse.class, giftOrder.id, product.name, giftOrder.quantity),
+                giftOrder.quantity,
+                giftOrder.createdDate,
+                giftOrder.message);
+    }
+}
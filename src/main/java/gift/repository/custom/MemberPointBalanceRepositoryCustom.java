@@ -0,0 +1,9 @@
+package gift.repository.custom;
+
+import gift.dto.point.PointDrift;
+
+import java.util.List;
+
+public interface MemberPointBalanceRepositoryCustom {
+    List<PointDrift> findPointDrifts();
+}
@@ -0,0 +1,33 @@
+package gift.repository.custom;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import gift.dto.point.PointDrift;
+import gift.model.QMember;
+import gift.model.QMemberPoint;
+import gift.model.QMemberPointBalance;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+public class MemberPointBalanceRepositoryCustomImpl implements MemberPointBalanceRepositoryCustom {
+
+    private final JPAQueryFactory jpaQueryFactory;
+
+    @Override
+    public List<PointDrift> findPointDrifts() {
+        QMember member = QMember.member;
+        QMemberPointBalance memberPointBalance = QMemberPointBalance.memberPointBalance;
+        QMemberPoint memberPoint = QMemberPoint.memberPoint;
+        var ledgerPoint = Expressions.numberTemplate(Long.class, "coalesce(sum({0}), 0)", memberPoint.point);
+        return jpaQueryFactory.select(Projections.constructor(PointDrift.class, member.id, memberPointBalance.balance, ledgerPoint))
+                .from(member)
+                .leftJoin(memberPointBalance).on(memberPointBalance.member.id.eq(member.id))
+                .leftJoin(memberPoint).on(memberPoint.member.id.eq(member.id))
+                .groupBy(member.id, memberPointBalance.balance)
+                .having(memberPointBalance.balance.isNull().or(memberPointBalance.balance.longValue().ne(ledgerPoint)))
+                .fetch();
+    }
+}
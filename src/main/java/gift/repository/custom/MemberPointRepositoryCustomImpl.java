@@ -1,5 +1,6 @@
 package gift.repository.custom;
 
+import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import gift.model.QMemberPoint;
 import lombok.RequiredArgsConstructor;
@@ -12,13 +13,13 @@ public class MemberPointRepositoryCustomImpl implements MemberPointRepositoryCus
     @Override
     public Integer findPointByMemberId(Long memberId) {
         QMemberPoint memberPoint = QMemberPoint.memberPoint;
-        var memberPoints = jpaQueryFactory.select(memberPoint.point.sum())
+        var memberPoints = jpaQueryFactory.select(Expressions.numberTemplate(Long.class, "coalesce(sum({0}), 0)", memberPoint.point))
                 .from(memberPoint)
                 .where(memberPoint.member.id.eq(memberId))
                 .fetchOne();
         if (memberPoints == null) {
             return 0;
         }
-        return memberPoints;
+        return memberPoints.intValue();
     }
 }
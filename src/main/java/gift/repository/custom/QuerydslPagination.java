@@ -0,0 +1,53 @@
+package gift.repository.custom;
+
+import com.querydsl.core.types.EntityPath;
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.core.types.dsl.PathBuilder;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PropertyPath;
+
+/**
+ * 목록 조회 쿼리가 공통으로 사용하는 페이지 조건을 만든다.
+ * 커서(lastId)가 있으면 id 미만의 행을 offset 없이 조회하고, 정렬은 Pageable 의 정렬을 따르며 정렬이 없으면 id 내림차순으로 조회한다.
+ * 엔티티에 없는 정렬 속성은 Spring Data 의 메서드 쿼리와 같이 PropertyReferenceException 으로 거절한다.
+ */
+final class QuerydslPagination {
+
+    private QuerydslPagination() {
+    }
+
+    static BooleanExpression idLessThan(NumberPath<Long> id, Long lastId) {
+        if (lastId == null) return null;
+        return id.lt(lastId);
+    }
+
+    static long getOffset(Long lastId, Pageable pageable) {
+        if (lastId != null) return 0;
+        return pageable.getOffset();
+    }
+
+    static OrderSpecifier<?>[] getOrderSpecifiers(EntityPath<?> entity, NumberPath<Long> id, Pageable pageable) {
+        if (pageable.getSort().isUnsorted()) {
+            return new OrderSpecifier<?>[]{id.desc()};
+        }
+        var pathBuilder = new PathBuilder<>(entity.getType(), entity.getMetadata());
+        return pageable.getSort()
+                .stream()
+                .peek(order -> PropertyPath.from(order.getProperty(), entity.getType()))
+                .map(order -> getOrderSpecifier(pathBuilder, order))
+                .toArray(OrderSpecifier<?>[]::new);
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static OrderSpecifier<?> getOrderSpecifier(PathBuilder<?> pathBuilder, Sort.Order order) {
+        var direction = Order.DESC;
+        if (order.isAscending()) {
+            direction = Order.ASC;
+        }
+        return new OrderSpecifier(direction, pathBuilder.getComparable(order.getProperty(), Comparable.class));
+    }
+}
@@ -0,0 +1,10 @@
+package gift.repository.custom;
+
+import gift.dto.wishproduct.WishProductResponse;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+public interface WishProductRepositoryCustom {
+    List<WishProductResponse> findWishProductResponsesByMemberId(Long memberId, Long lastId, Pageable pageable);
+}
@@ -0,0 +1,34 @@
+package gift.repository.custom;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import gift.dto.product.ProductBasicInformation;
+import gift.dto.wishproduct.WishProductResponse;
+import gift.model.QProduct;
+import gift.model.QWishProduct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+public class WishProductRepositoryCustomImpl implements WishProductRepositoryCustom {
+
+    private final JPAQueryFactory jpaQueryFactory;
+
+    @Override
+    public List<WishProductResponse> findWishProductResponsesByMemberId(Long memberId, Long lastId, Pageable pageable) {
+        QWishProduct wishProduct = QWishProduct.wishProduct;
+        QProduct product = QProduct.product;
+        return jpaQueryFactory.select(Projections.constructor(WishProductResponse.class,
+                        wishProduct.id,
+                        Projections.constructor(ProductBasicInformation.class, product.id, product.name, product.price)))
+                .from(wishProduct)
+                .join(wishProduct.product, product)
+                .where(wishProduct.member.id.eq(memberId), QuerydslPagination.idLessThan(wishProduct.id, lastId))
+                .orderBy(QuerydslPagination.getOrderSpecifiers(wishProduct, wishProduct.id, pageable))
+                .offset(QuerydslPagination.getOffset(lastId, pageable))
+                .limit(pageable.getPageSize())
+                .fetch();
+    }
+}
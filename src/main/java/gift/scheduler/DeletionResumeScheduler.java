@@ -0,0 +1,25 @@
+package gift.scheduler;
+
+import gift.service.MemberDataPurger;
+import gift.service.ProductCascadeDeleter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class DeletionResumeScheduler {
+
+    private final ProductCascadeDeleter productCascadeDeleter;
+    private final MemberDataPurger memberDataPurger;
+
+    @Scheduled(initialDelayString = "${deletion.resume-interval:600000}", fixedDelayString = "${deletion.resume-interval:600000}")
+    public void resumeDeletedCategories() {
+        productCascadeDeleter.resumeDeletedCategories();
+    }
+
+    @Scheduled(initialDelayString = "${deletion.resume-interval:600000}", fixedDelayString = "${deletion.resume-interval:600000}")
+    public void resumeDeletedMembers() {
+        memberDataPurger.resumeDeletedMembers();
+    }
+}
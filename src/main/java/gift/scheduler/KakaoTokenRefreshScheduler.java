@@ -0,0 +1,18 @@
+package gift.scheduler;
+
+import gift.service.KakaoTokenRefresher;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class KakaoTokenRefreshScheduler {
+
+    private final KakaoTokenRefresher kakaoTokenRefresher;
+
+    @Scheduled(initialDelayString = "${kakao-token.refresh-interval:60000}", fixedDelayString = "${kakao-token.refresh-interval:60000}")
+    public void refreshExpiringTokens() {
+        kakaoTokenRefresher.refreshExpiringTokens();
+    }
+}
@@ -0,0 +1,18 @@
+package gift.scheduler;
+
+import gift.service.MemberPointService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class MemberPointReconciliationScheduler {
+
+    private final MemberPointService memberPointService;
+
+    @Scheduled(initialDelayString = "${point.reconciliation-delay:600000}", fixedDelayString = "${point.reconciliation-delay:600000}")
+    public void reconcilePoints() {
+        memberPointService.reconcilePoints();
+    }
+}
@@ -0,0 +1,50 @@
+package gift.scheduler;
+
+import gift.dto.notification.OrderNotificationTarget;
+import gift.exception.NotFoundElementException;
+import gift.exception.UnauthorizedAccessException;
+import gift.service.GiftOrderService;
+import gift.service.KakaoService;
+import gift.service.OrderNotificationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderNotificationDispatcher {
+
+    private final OrderNotificationService orderNotificationService;
+    private final GiftOrderService giftOrderService;
+    private final KakaoService kakaoService;
+    private final ThreadPoolTaskExecutor notificationExecutor;
+
+    @Scheduled(fixedDelayString = "${notification.dispatch-interval:1000}")
+    public void dispatchNotifications() {
+        var futures = orderNotificationService.getDispatchableTargets()
+                .stream()
+                .map(target -> CompletableFuture.runAsync(() -> dispatch(target), notificationExecutor))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(futures).join();
+    }
+
+    private void dispatch(OrderNotificationTarget target) {
+        if (!orderNotificationService.claim(target.id())) return;
+        try {
+            var giftOrderResponses = giftOrderService.getGiftOrders(orderNotificationService.getGiftOrderIds(target.id()));
+            kakaoService.sendOrderResponseWithKakaoMessage(target.memberId(), giftOrderResponses);
+            orderNotificationService.markSent(target.id());
+        } catch (NotFoundElementException | UnauthorizedAccessException exception) {
+            log.warn("주문 알림 {} 을 보낼 수 없습니다: {}", target.id(), exception.getMessage());
+            orderNotificationService.markFailed(target.id());
+        } catch (RuntimeException exception) {
+            log.warn("주문 알림 {} 전송에 실패했습니다. 재시도합니다: {}", target.id(), exception.getMessage());
+            orderNotificationService.retryLater(target.id());
+        }
+    }
+}
@@ -2,13 +2,18 @@ package gift.service;
 
 import gift.dto.category.CategoryRequest;
 import gift.dto.category.CategoryResponse;
+import gift.event.CategoryChangedEvent;
 import gift.exception.DuplicatedNameException;
 import gift.exception.NotFoundElementException;
 import gift.model.Category;
 import gift.repository.CategoryRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 
@@ -19,10 +24,14 @@ public class CategoryService {
 
     private final CategoryRepository categoryRepository;
     private final ProductService productService;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final CategorySnapshotCache categorySnapshotCache;
+    private final PlatformTransactionManager transactionManager;
 
     public CategoryResponse addCategory(CategoryRequest categoryRequest) {
         categoryNameValidation(categoryRequest.name());
         var category = saveCategoryWithCategoryRequest(categoryRequest);
+        applicationEventPublisher.publishEvent(CategoryChangedEvent.of(category.getId()));
         return getCategoryResponseFromCategory(category);
     }
 
@@ -31,28 +40,44 @@ public class CategoryService {
         var category = findCategoryById(id);
         category.updateCategory(categoryRequest.name(), categoryRequest.description(), categoryRequest.color(), categoryRequest.imageUrl());
         categoryRepository.save(category);
+        applicationEventPublisher.publishEvent(CategoryChangedEvent.of(id));
     }
 
     @Transactional(readOnly = true)
     public CategoryResponse getCategory(Long id) {
-        var category = findCategoryById(id);
-        return getCategoryResponseFromCategory(category);
+        var category = getCategorySnapshot().categoriesById().get(id);
+        if (category == null) {
+            throw new NotFoundElementException(id + "를 가진 상품 카테고리가 존재하지 않습니다.");
+        }
+        return category;
     }
 
     @Transactional(readOnly = true)
     public List<CategoryResponse> getCategories() {
-        return categoryRepository.findAll()
-                .stream()
-                .map(this::getCategoryResponseFromCategory)
-                .toList();
+        return getCategorySnapshot().categories();
+    }
+
+    @Transactional(readOnly = true)
+    public byte[] getCategoriesJson() {
+        return getCategorySnapshot().json();
     }
 
+    @Transactional(propagation = Propagation.SUPPORTS)
     public void deleteCategory(Long categoryId) {
         if (!categoryRepository.existsById(categoryId)) {
             throw new NotFoundElementException("존재하지 않는 상품 카테고리의 ID 입니다.");
         }
+        var transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.executeWithoutResult(status -> categoryRepository.deleteById(categoryId));
         productService.deleteAllProductWithCategoryId(categoryId);
-        categoryRepository.deleteById(categoryId);
+        applicationEventPublisher.publishEvent(CategoryChangedEvent.of(categoryId));
+    }
+
+    private CategorySnapshot getCategorySnapshot() {
+        return categorySnapshotCache.getSnapshot(() -> categoryRepository.findAll()
+                .stream()
+                .map(this::getCategoryResponseFromCategory)
+                .toList());
     }
 
     private Category saveCategoryWithCategoryRequest(CategoryRequest categoryRequest) {
@@ -0,0 +1,16 @@
+package gift.service;
+
+import gift.dto.category.CategoryResponse;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+record CategorySnapshot(List<CategoryResponse> categories, Map<Long, CategoryResponse> categoriesById, byte[] json) {
+    static CategorySnapshot of(List<CategoryResponse> categories, byte[] json) {
+        var categoriesById = categories.stream()
+                .collect(Collectors.toUnmodifiableMap(CategoryResponse::id, Function.identity()));
+        return new CategorySnapshot(List.copyOf(categories), categoriesById, json);
+    }
+}
@@ -0,0 +1,53 @@
+package gift.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gift.dto.category.CategoryResponse;
+import gift.event.CategoryChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+@Component
+@RequiredArgsConstructor
+public class CategorySnapshotCache {
+
+    private final ObjectMapper objectMapper;
+    private final AtomicReference<CategorySnapshot> snapshot = new AtomicReference<>();
+    private final AtomicLong version = new AtomicLong();
+
+    CategorySnapshot getSnapshot(Supplier<List<CategoryResponse>> loader) {
+        var currentSnapshot = snapshot.get();
+        if (currentSnapshot != null && !isWritingTransaction()) return currentSnapshot;
+        var currentVersion = version.get();
+        var newSnapshot = createSnapshot(loader.get());
+        if (isWritingTransaction() || version.get() != currentVersion) return newSnapshot;
+        snapshot.compareAndSet(currentSnapshot, newSnapshot);
+        return newSnapshot;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void invalidate(CategoryChangedEvent categoryChangedEvent) {
+        version.incrementAndGet();
+        snapshot.set(null);
+    }
+
+    private CategorySnapshot createSnapshot(List<CategoryResponse> categories) {
+        try {
+            return CategorySnapshot.of(categories, objectMapper.writeValueAsBytes(categories));
+        } catch (JsonProcessingException exception) {
+            throw new IllegalStateException("카테고리 목록을 JSON 으로 변환하는 과정에서 예외가 발생했습니다.", exception);
+        }
+    }
+
+    private boolean isWritingTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive() && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+}
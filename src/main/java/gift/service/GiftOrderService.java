@@ -5,7 +5,10 @@ import gift.dto.giftorder.GiftOrderResponse;
 import gift.dto.option.OptionResponse;
 import gift.dto.product.ProductBasicInformation;
 import gift.exception.NotFoundElementException;
+import gift.metric.OrderMetrics;
+import gift.metric.OrderPhase;
 import gift.model.GiftOrder;
+import gift.model.Member;
 import gift.model.Option;
 import gift.repository.GiftOrderRepository;
 import gift.repository.MemberRepository;
@@ -14,7 +17,10 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 @Service
 @Transactional
@@ -24,13 +30,28 @@ public class GiftOrderService {
     private final GiftOrderRepository giftOrderRepository;
     private final MemberRepository memberRepository;
     private final WishProductService wishProductService;
+    private final MemberPointService memberPointService;
+    private final OrderNotificationService orderNotificationService;
+    private final OrderMetrics orderMetrics;
 
     public GiftOrderResponse addGiftOrder(Long memberId, Option option, GiftOrderRequest giftOrderRequest) {
-        var order = saveGiftOrderWithGiftOrderRequest(memberId, option, giftOrderRequest);
-        wishProductService.deleteAllByMemberIdAndProductId(memberId, option.getProduct().getId());
+        orderMetrics.record(OrderPhase.POINT, () -> memberPointService.subtractPoint(memberId, giftOrderRequest.point()));
+        var order = orderMetrics.record(OrderPhase.ORDER_INSERT, () -> saveGiftOrderWithGiftOrderRequest(memberId, option, giftOrderRequest));
+        orderMetrics.record(OrderPhase.WISH_DELETE, () -> wishProductService.deleteAllByMemberIdAndProductIds(memberId, List.of(option.getProduct().getId())));
+        orderMetrics.record(OrderPhase.NOTIFICATION, () -> orderNotificationService.addOrderNotification(order.getMember(), List.of(order)));
         return getGiftOrderResponseFromGiftOrder(order);
     }
 
+    public List<GiftOrderResponse> addGiftOrders(Long memberId, Map<Long, Option> options, List<GiftOrderRequest> giftOrderRequests) {
+        orderMetrics.record(OrderPhase.POINT, () -> memberPointService.subtractPoint(memberId, getTotalPoint(giftOrderRequests)));
+        var orders = orderMetrics.record(OrderPhase.ORDER_INSERT, () -> saveGiftOrdersWithGiftOrderRequests(memberId, options, giftOrderRequests));
+        orderMetrics.record(OrderPhase.WISH_DELETE, () -> wishProductService.deleteAllByMemberIdAndProductIds(memberId, getProductIds(orders)));
+        orderMetrics.record(OrderPhase.NOTIFICATION, () -> orderNotificationService.addOrderNotification(findMemberById(memberId), orders));
+        return orders.stream()
+                .map(this::getGiftOrderResponseFromGiftOrder)
+                .toList();
+    }
+
     @Transactional(readOnly = true)
     public GiftOrderResponse getGiftOrder(Long id) {
         var order = giftOrderRepository.findById(id)
@@ -39,13 +60,27 @@ public class GiftOrderService {
     }
 
     @Transactional(readOnly = true)
-    public List<GiftOrderResponse> getGiftOrders(Long memberId, Pageable pageable) {
-        return giftOrderRepository.findAllByMemberId(memberId, pageable)
-                .stream()
+    public List<GiftOrderResponse> getGiftOrders(List<Long> ids) {
+        var orders = giftOrderRepository.findAllById(ids);
+        if (orders.isEmpty()) {
+            throw new NotFoundElementException(ids + "를 가진 주문이 존재하지 않습니다.");
+        }
+        return orders.stream()
+                .sorted(Comparator.comparing(GiftOrder::getId))
                 .map(this::getGiftOrderResponseFromGiftOrder)
                 .toList();
     }
 
+    @Transactional(readOnly = true)
+    public List<GiftOrderResponse> getGiftOrders(Long memberId, Pageable pageable) {
+        return giftOrderRepository.findGiftOrderResponsesByMemberId(memberId, null, pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public List<GiftOrderResponse> getGiftOrders(Long memberId, Long lastId, Pageable pageable) {
+        return giftOrderRepository.findGiftOrderResponsesByMemberId(memberId, lastId, pageable);
+    }
+
     public void deleteOrder(Long id) {
         giftOrderRepository.deleteById(id);
     }
@@ -54,17 +89,40 @@ public class GiftOrderService {
         giftOrderRepository.deleteAllByOptionId(optionId);
     }
 
-    public void deleteAllByMemberId(Long memberId) {
-        giftOrderRepository.deleteAllByMemberId(memberId);
-    }
-
     private GiftOrder saveGiftOrderWithGiftOrderRequest(Long memberId, Option option, GiftOrderRequest giftOrderRequest) {
-        var member = memberRepository.findById(memberId)
-                .orElseThrow(() -> new NotFoundElementException(memberId + "를 가진 이용자가 존재하지 않습니다."));
+        var member = findMemberById(memberId);
         var order = new GiftOrder(member, option, giftOrderRequest.quantity(), giftOrderRequest.message());
         return giftOrderRepository.save(order);
     }
 
+    private List<GiftOrder> saveGiftOrdersWithGiftOrderRequests(Long memberId, Map<Long, Option> options, List<GiftOrderRequest> giftOrderRequests) {
+        var member = findMemberById(memberId);
+        var orders = giftOrderRequests.stream()
+                .map(giftOrderRequest -> new GiftOrder(member, options.get(giftOrderRequest.optionId()), giftOrderRequest.quantity(), giftOrderRequest.message()))
+                .toList();
+        return giftOrderRepository.saveAll(orders);
+    }
+
+    private Member findMemberById(Long memberId) {
+        return memberRepository.findById(memberId)
+                .orElseThrow(() -> new NotFoundElementException(memberId + "를 가진 이용자가 존재하지 않습니다."));
+    }
+
+    private Integer getTotalPoint(List<GiftOrderRequest> giftOrderRequests) {
+        return giftOrderRequests.stream()
+                .map(GiftOrderRequest::point)
+                .filter(Objects::nonNull)
+                .mapToInt(Integer::intValue)
+                .sum();
+    }
+
+    private List<Long> getProductIds(List<GiftOrder> giftOrders) {
+        return giftOrders.stream()
+                .map(giftOrder -> giftOrder.getOption().getProduct().getId())
+                .distinct()
+                .toList();
+    }
+
     private GiftOrderResponse getGiftOrderResponseFromGiftOrder(GiftOrder giftOrder) {
         var product = giftOrder.getOption().getProduct();
         var productBasicInformation = ProductBasicInformation.of(product.getId(), product.getName(), product.getPrice());
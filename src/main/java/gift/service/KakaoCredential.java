@@ -0,0 +1,27 @@
+package gift.service;
+
+import gift.dto.kakao.KakaoTokenResponse;
+import gift.model.OauthToken;
+
+import java.time.LocalDateTime;
+
+record KakaoCredential(String accessToken, LocalDateTime accessTokenExpiredAt, String refreshToken, LocalDateTime refreshTokenExpiredAt) {
+
+    static KakaoCredential from(OauthToken oauthToken) {
+        return new KakaoCredential(oauthToken.getAccessToken(), oauthToken.getAccessTokenExpiredAt(), oauthToken.getRefreshToken(), oauthToken.getRefreshTokenExpiredAt());
+    }
+
+    static KakaoCredential of(KakaoTokenResponse kakaoTokenResponse, LocalDateTime issuedAt) {
+        var accessTokenExpiredAt = issuedAt.plusSeconds(kakaoTokenResponse.accessTokenExpiresIn());
+        var refreshTokenExpiredAt = issuedAt.plusSeconds(kakaoTokenResponse.refreshTokenExpiresIn());
+        return new KakaoCredential(kakaoTokenResponse.accessToken(), accessTokenExpiredAt, kakaoTokenResponse.refreshToken(), refreshTokenExpiredAt);
+    }
+
+    boolean canUseAccessTokenAt(LocalDateTime time) {
+        return accessTokenExpiredAt.isAfter(time);
+    }
+
+    boolean canUseRefreshTokenAt(LocalDateTime time) {
+        return refreshTokenExpiredAt.isAfter(time);
+    }
+}
@@ -0,0 +1,81 @@
+package gift.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import gift.config.properties.KakaoTokenProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+
+/**
+ * 회원별 카카오 토큰과 절대 만료 시각을 메모리에 보관한다.
+ * 토큰을 저장하거나 갱신하는 트랜잭션이 커밋된 뒤에 함께 기록되므로, 주문 알림 전송 시 oauth_token 을 다시 조회하지 않는다.
+ * 최대 {@code kakao-token.cache-size} 명까지 보관하고, 리프레시 토큰이 만료되면 더 이상 갱신할 수 없으므로 함께 제거한다.
+ */
+@Component
+public class KakaoCredentialCache {
+
+    private final Cache<Long, KakaoCredential> kakaoCredentials;
+
+    public KakaoCredentialCache(KakaoTokenProperties kakaoTokenProperties) {
+        this.kakaoCredentials = Caffeine.newBuilder()
+                .maximumSize(kakaoTokenProperties.cacheSize())
+                .expireAfter(new RefreshTokenExpiry())
+                .build();
+    }
+
+    Optional<KakaoCredential> find(Long memberId) {
+        return Optional.ofNullable(kakaoCredentials.getIfPresent(memberId));
+    }
+
+    boolean contains(Long memberId) {
+        return kakaoCredentials.getIfPresent(memberId) != null;
+    }
+
+    void put(Long memberId, KakaoCredential kakaoCredential) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            kakaoCredentials.put(memberId, kakaoCredential);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                kakaoCredentials.put(memberId, kakaoCredential);
+            }
+        });
+    }
+
+    void evict(Long memberId) {
+        kakaoCredentials.invalidate(memberId);
+    }
+
+    void forEach(BiConsumer<Long, KakaoCredential> action) {
+        kakaoCredentials.asMap().forEach(action);
+    }
+
+    private static class RefreshTokenExpiry implements Expiry<Long, KakaoCredential> {
+
+        @Override
+        public long expireAfterCreate(Long memberId, KakaoCredential kakaoCredential, long currentTime) {
+            if (kakaoCredential.refreshTokenExpiredAt() == null) return Long.MAX_VALUE;
+            var remaining = Duration.between(LocalDateTime.now(), kakaoCredential.refreshTokenExpiredAt());
+            return Math.max(remaining.toNanos(), 0);
+        }
+
+        @Override
+        public long expireAfterUpdate(Long memberId, KakaoCredential kakaoCredential, long currentTime, long currentDuration) {
+            return expireAfterCreate(memberId, kakaoCredential, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Long memberId, KakaoCredential kakaoCredential, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -16,6 +16,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Service
 @Transactional
 @RequiredArgsConstructor
@@ -25,6 +28,8 @@ public class KakaoService {
     private final OauthTokenRepository oauthTokenRepository;
     private final KakaoApiClient kakaoApiClient;
     private final KakaoProperties kakaoProperties;
+    private final KakaoTokenRefresher kakaoTokenRefresher;
+    private final KakaoCredentialCache kakaoCredentialCache;
 
     public KakaoTokenResponse getKakaoTokenResponse(String code) {
         return kakaoApiClient.getTokenResponse(code, kakaoProperties.redirectUri());
@@ -37,11 +42,12 @@ public class KakaoService {
         saveKakaoToken(member, kakaoTokenResponse);
     }
 
-    public OauthToken saveKakaoToken(Member member, KakaoTokenResponse kakaoTokenResponse) {
-        if (oauthTokenRepository.existsByMemberIdAndOauthType(member.getId(), OauthType.KAKAO)) {
-            return updateOauthToken(member, kakaoTokenResponse);
-        }
-        return createAndSaveOauthToken(member, kakaoTokenResponse);
+    public void saveKakaoToken(Member member, KakaoTokenResponse kakaoTokenResponse) {
+        if (kakaoCredentialCache.contains(member.getId()) && updateCachedOauthToken(member.getId(), kakaoTokenResponse)) return;
+        var kakaoToken = oauthTokenRepository.findByMemberIdAndOauthType(member.getId(), OauthType.KAKAO)
+                .map(savedKakaoToken -> updateOauthToken(savedKakaoToken, kakaoTokenResponse))
+                .orElseGet(() -> createAndSaveOauthToken(member, kakaoTokenResponse));
+        kakaoCredentialCache.put(member.getId(), KakaoCredential.from(kakaoToken));
     }
 
     public KakaoAuthInformation getKakaoAuthInformation(KakaoTokenResponse kakaoTokenResponse) {
@@ -52,27 +58,31 @@ public class KakaoService {
         return KakaoAuthInformation.of(name, email);
     }
 
-    public void sendOrderResponseWithKakaoMessage(Long memberId, GiftOrderResponse giftOrderResponse) {
-        var kakaoToken = oauthTokenRepository.findByMemberIdAndOauthType(memberId, OauthType.KAKAO)
-                .orElseThrow(() -> new NotFoundElementException(memberId + "를 가진 이용자의 카카오 토큰 정보가 존재하지 않습니다."));
-        var validatedKakaoToken = tokenValidation(kakaoToken);
-        kakaoApiClient.sendSelfMessageOrder(validatedKakaoToken.getAccessToken(), giftOrderResponse);
+    public void sendOrderResponseWithKakaoMessage(Long memberId, List<GiftOrderResponse> giftOrderResponses) {
+        var kakaoCredential = getKakaoCredential(memberId);
+        if (!kakaoCredential.canUseRefreshTokenAt(LocalDateTime.now())) {
+            throw new UnauthorizedAccessException("유효하지 않은 카카오 토큰입니다. 갱신이 필요합니다.");
+        }
+        var accessToken = kakaoTokenRefresher.getAccessToken(memberId, kakaoCredential);
+        kakaoApiClient.sendSelfMessageOrder(accessToken, giftOrderResponses);
     }
 
     public void deleteByMemberId(Long memberId) {
-        if (!oauthTokenRepository.existsByMemberIdAndOauthType(memberId, OauthType.KAKAO)) return;
         oauthTokenRepository.deleteAllByMemberId(memberId);
+        kakaoTokenRefresher.evict(memberId);
     }
 
-    private OauthToken tokenValidation(OauthToken oauthToken) {
-        if (!oauthToken.canUseRefreshToken()) {
-            throw new UnauthorizedAccessException("유효하지 않은 카카오 토큰입니다. 갱신이 필요합니다.");
-        }
-        if (!oauthToken.canUseAccessToken()) {
-            var kakaoTokenResponse = kakaoApiClient.getRefreshedTokenResponse(oauthToken.getRefreshToken());
-            oauthToken = saveKakaoToken(oauthToken.getMember(), kakaoTokenResponse);
-        }
-        return oauthToken;
+    private KakaoCredential getKakaoCredential(Long memberId) {
+        return kakaoCredentialCache.find(memberId)
+                .orElseGet(() -> loadKakaoCredential(memberId));
+    }
+
+    private KakaoCredential loadKakaoCredential(Long memberId) {
+        var kakaoToken = oauthTokenRepository.findByMemberIdAndOauthType(memberId, OauthType.KAKAO)
+                .orElseThrow(() -> new NotFoundElementException(memberId + "를 가진 이용자의 카카오 토큰 정보가 존재하지 않습니다."));
+        var kakaoCredential = KakaoCredential.from(kakaoToken);
+        kakaoCredentialCache.put(memberId, kakaoCredential);
+        return kakaoCredential;
     }
 
     private OauthToken createAndSaveOauthToken(Member member, KakaoTokenResponse kakaoTokenResponse) {
@@ -80,10 +90,16 @@ public class KakaoService {
         return oauthTokenRepository.save(kakaoToken);
     }
 
-    private OauthToken updateOauthToken(Member member, KakaoTokenResponse kakaoTokenResponse) {
-        var kakaoToken = oauthTokenRepository.findByMemberIdAndOauthType(member.getId(), OauthType.KAKAO)
-                .orElseThrow(() -> new NotFoundElementException(member.getId() + "를 가진 이용자의 카카오 토큰 정보가 존재하지 않습니다."));
+    private OauthToken updateOauthToken(OauthToken kakaoToken, KakaoTokenResponse kakaoTokenResponse) {
         kakaoToken.updateToken(kakaoTokenResponse.accessToken(), kakaoTokenResponse.accessTokenExpiresIn(), kakaoTokenResponse.refreshToken(), kakaoTokenResponse.refreshTokenExpiresIn());
-        return oauthTokenRepository.save(kakaoToken);
+        return kakaoToken;
+    }
+
+    private boolean updateCachedOauthToken(Long memberId, KakaoTokenResponse kakaoTokenResponse) {
+        var kakaoCredential = KakaoCredential.of(kakaoTokenResponse, LocalDateTime.now());
+        var updatedCount = oauthTokenRepository.updateToken(memberId, OauthType.KAKAO, kakaoCredential.accessToken(), kakaoCredential.accessTokenExpiredAt(), kakaoCredential.refreshToken(), kakaoCredential.refreshTokenExpiredAt());
+        if (updatedCount == 0) return false;
+        kakaoCredentialCache.put(memberId, kakaoCredential);
+        return true;
     }
 }
@@ -0,0 +1,120 @@
+package gift.service;
+
+import gift.client.KakaoApiClient;
+import gift.config.properties.KakaoTokenProperties;
+import gift.dto.kakao.KakaoTokenResponse;
+import gift.exception.NotFoundElementException;
+import gift.model.OauthType;
+import gift.repository.OauthTokenRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 회원별 카카오 액세스 토큰 갱신을 하나로 합친다.
+ * 같은 회원의 갱신 요청이 동시에 들어오면 먼저 들어온 요청만 카카오 API 를 호출하고, 나머지는 그 결과를 함께 기다린다.
+ * 갱신된 토큰은 {@link KakaoCredentialCache} 에 기록되며, 최근에 사용된 토큰은 만료 직전에 백그라운드에서 미리 갱신한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KakaoTokenRefresher {
+
+    private final KakaoApiClient kakaoApiClient;
+    private final OauthTokenRepository oauthTokenRepository;
+    private final KakaoCredentialCache kakaoCredentialCache;
+    private final KakaoTokenProperties kakaoTokenProperties;
+    private final PlatformTransactionManager transactionManager;
+    private final Map<Long, CompletableFuture<KakaoCredential>> inFlightRefreshes = new ConcurrentHashMap<>();
+    private final Set<Long> recentlyUsedMembers = ConcurrentHashMap.newKeySet();
+
+    String getAccessToken(Long memberId, KakaoCredential kakaoCredential) {
+        recentlyUsedMembers.add(memberId);
+        if (kakaoCredential.canUseAccessTokenAt(LocalDateTime.now())) {
+            return kakaoCredential.accessToken();
+        }
+        return refresh(memberId, kakaoCredential.refreshToken()).accessToken();
+    }
+
+    public void refreshExpiringTokens() {
+        var refreshBefore = LocalDateTime.now().plusSeconds(kakaoTokenProperties.refreshAhead());
+        kakaoCredentialCache.forEach((memberId, kakaoCredential) -> {
+            if (kakaoCredential.canUseAccessTokenAt(refreshBefore)) return;
+            refreshInBackground(memberId, kakaoCredential);
+        });
+    }
+
+    public void evict(Long memberId) {
+        kakaoCredentialCache.evict(memberId);
+        recentlyUsedMembers.remove(memberId);
+    }
+
+    private void refreshInBackground(Long memberId, KakaoCredential kakaoCredential) {
+        if (!recentlyUsedMembers.remove(memberId)) return;
+        if (!kakaoCredential.canUseRefreshTokenAt(LocalDateTime.now())) return;
+        try {
+            refresh(memberId, kakaoCredential.refreshToken());
+        } catch (RuntimeException exception) {
+            log.warn("회원 {} 의 카카오 토큰을 미리 갱신하지 못했습니다: {}", memberId, exception.getMessage());
+            kakaoCredentialCache.evict(memberId);
+        }
+    }
+
+    private KakaoCredential refresh(Long memberId, String refreshToken) {
+        var refreshing = new CompletableFuture<KakaoCredential>();
+        var inFlightRefresh = inFlightRefreshes.putIfAbsent(memberId, refreshing);
+        if (inFlightRefresh != null) return await(inFlightRefresh);
+        try {
+            var kakaoCredential = getUsableOrRefresh(memberId, refreshToken);
+            refreshing.complete(kakaoCredential);
+            return kakaoCredential;
+        } catch (RuntimeException exception) {
+            refreshing.completeExceptionally(exception);
+            throw exception;
+        } finally {
+            inFlightRefreshes.remove(memberId, refreshing);
+        }
+    }
+
+    private KakaoCredential getUsableOrRefresh(Long memberId, String refreshToken) {
+        var refreshBefore = LocalDateTime.now().plusSeconds(kakaoTokenProperties.refreshAhead());
+        return kakaoCredentialCache.find(memberId)
+                .filter(kakaoCredential -> kakaoCredential.canUseAccessTokenAt(refreshBefore))
+                .orElseGet(() -> refreshAndSave(memberId, refreshToken));
+    }
+
+    private KakaoCredential refreshAndSave(Long memberId, String refreshToken) {
+        var kakaoTokenResponse = kakaoApiClient.getRefreshedTokenResponse(refreshToken);
+        var transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return transactionTemplate.execute(status -> updateOauthToken(memberId, kakaoTokenResponse));
+    }
+
+    private KakaoCredential updateOauthToken(Long memberId, KakaoTokenResponse kakaoTokenResponse) {
+        var oauthToken = oauthTokenRepository.findByMemberIdAndOauthType(memberId, OauthType.KAKAO)
+                .orElseThrow(() -> new NotFoundElementException(memberId + "를 가진 이용자의 카카오 토큰 정보가 존재하지 않습니다."));
+        oauthToken.updateToken(kakaoTokenResponse.accessToken(), kakaoTokenResponse.accessTokenExpiresIn(), kakaoTokenResponse.refreshToken(), kakaoTokenResponse.refreshTokenExpiresIn());
+        var kakaoCredential = KakaoCredential.from(oauthToken);
+        kakaoCredentialCache.put(memberId, kakaoCredential);
+        return kakaoCredential;
+    }
+
+    private KakaoCredential await(CompletableFuture<KakaoCredential> inFlightRefresh) {
+        try {
+            return inFlightRefresh.join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException cause) throw cause;
+            throw exception;
+        }
+    }
+}
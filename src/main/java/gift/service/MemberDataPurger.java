@@ -0,0 +1,75 @@
+package gift.service;
+
+import gift.config.properties.DeletionProperties;
+import gift.event.MemberDeletedEvent;
+import gift.repository.GiftOrderRepository;
+import gift.repository.WishProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 탈퇴한 회원의 주문과 위시 리스트를 chunkSize 단위의 트랜잭션으로 나누어 삭제한다.
+ * 회원은 먼저 삭제 표시되므로, 백그라운드 정리가 실패하거나 중단되어 남은 데이터는 {@link #resumeDeletedMembers()} 가 이어서 삭제한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberDataPurger {
+
+    private final GiftOrderRepository giftOrderRepository;
+    private final WishProductRepository wishProductRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final DeletionProperties deletionProperties;
+    private final ThreadPoolTaskExecutor memberPurgeExecutor;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    public void purge(Long memberId) {
+        if (deletionProperties.asyncMemberPurge()) {
+            applicationEventPublisher.publishEvent(MemberDeletedEvent.of(memberId));
+            return;
+        }
+        giftOrderRepository.deleteAllByMemberId(memberId);
+        wishProductRepository.deleteAllByMemberId(memberId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void purgeInBackground(MemberDeletedEvent memberDeletedEvent) {
+        var memberId = memberDeletedEvent.memberId();
+        memberPurgeExecutor.execute(() -> {
+            try {
+                purgeInChunks(pageable -> giftOrderRepository.findIdsByMemberId(memberId, pageable), giftOrderRepository::deleteAllByIdIn);
+                purgeInChunks(pageable -> wishProductRepository.findIdsByMemberId(memberId, pageable), wishProductRepository::deleteAllByIdIn);
+            } catch (RuntimeException exception) {
+                log.warn("회원 {} 의 주문과 위시 리스트를 정리하지 못했습니다. 다음 재개 때 이어서 정리합니다: {}", memberId, exception.getMessage());
+            }
+        });
+    }
+
+    public void resumeDeletedMembers() {
+        purgeInChunks(giftOrderRepository::findIdsOfDeletedMembers, giftOrderRepository::deleteAllByIdIn);
+        purgeInChunks(wishProductRepository::findIdsOfDeletedMembers, wishProductRepository::deleteAllByIdIn);
+    }
+
+    private void purgeInChunks(Function<Pageable, List<Long>> idFinder, Function<List<Long>, Integer> deleter) {
+        var transactionTemplate = new TransactionTemplate(transactionManager);
+        var pageable = PageRequest.of(0, deletionProperties.chunkSize());
+        var ids = idFinder.apply(pageable);
+        while (!ids.isEmpty()) {
+            var chunk = ids;
+            transactionTemplate.executeWithoutResult(status -> deleter.apply(chunk));
+            ids = idFinder.apply(pageable);
+        }
+    }
+}
@@ -1,14 +1,134 @@
 package gift.service;
 
+import gift.dto.point.PointCharge;
+import gift.dto.point.PointDrift;
+import gift.dto.point.PointResponse;
+import gift.exception.BadRequestException;
+import gift.exception.NotFoundElementException;
+import gift.metric.PointMetrics;
+import gift.model.Member;
+import gift.model.MemberPoint;
+import gift.model.MemberPointBalance;
+import gift.repository.MemberPointBalanceRepository;
+import gift.repository.MemberPointJdbcRepository;
 import gift.repository.MemberPointRepository;
+import gift.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Slf4j
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class MemberPointService {
 
     private final MemberPointRepository memberPointRepository;
+    private final MemberPointBalanceRepository memberPointBalanceRepository;
+    private final MemberPointJdbcRepository memberPointJdbcRepository;
+    private final MemberRepository memberRepository;
+    private final PointMetrics pointMetrics;
+
+    public void initializePoint(Member member) {
+        var memberPointBalance = new MemberPointBalance(member, 0);
+        memberPointBalanceRepository.save(memberPointBalance);
+    }
+
+    public PointResponse addPoint(Long memberId, Integer point) {
+        return pointMetrics.recordMutation("charge", point, () -> chargePoint(memberId, point));
+    }
+
+    public void addPoints(List<PointCharge> pointCharges) {
+        var totalPoint = pointCharges.stream()
+                .mapToLong(PointCharge::point)
+                .sum();
+        pointMetrics.recordMutation("charge_batch", totalPoint, () -> chargePoints(pointCharges));
+    }
+
+    public void subtractPoint(Long memberId, Integer point) {
+        if (point == null || point == 0) return;
+        pointMetrics.recordMutation("use", point, () -> usePoint(memberId, point));
+    }
+
+    @Transactional(readOnly = true)
+    public PointResponse getPoint(Long memberId) {
+        return pointMetrics.recordBalance(() -> getPointResponse(memberId));
+    }
+
+    public void reconcilePoints() {
+        var pointDrifts = memberPointBalanceRepository.findPointDrifts();
+        for (var pointDrift : pointDrifts) {
+            reconcilePoint(pointDrift);
+        }
+    }
+
+    private PointResponse chargePoint(Long memberId, Integer point) {
+        increaseBalance(memberId, point);
+        saveMemberPoint(memberId, point);
+        return getPoint(memberId);
+    }
+
+    private void chargePoints(List<PointCharge> pointCharges) {
+        memberPointJdbcRepository.saveAll(pointCharges);
+        var balanceCharges = getBalanceCharges(pointCharges);
+        var updateCounts = memberPointJdbcRepository.increaseBalances(balanceCharges);
+        for (int i = 0; i < updateCounts.length; i++) {
+            createBalanceIfAbsent(balanceCharges.get(i), updateCounts[i]);
+        }
+    }
+
+    private void usePoint(Long memberId, Integer point) {
+        if (memberPointBalanceRepository.decreaseBalance(memberId, point) == 0) {
+            throw new BadRequestException("사용할 수 있는 포인트보다 더 많은 포인트가 입력되었습니다.");
+        }
+        saveMemberPoint(memberId, -point);
+    }
+
+    private PointResponse getPointResponse(Long memberId) {
+        var point = memberPointBalanceRepository.findBalanceByMemberId(memberId)
+                .orElseGet(() -> memberPointRepository.findPointByMemberId(memberId));
+        return PointResponse.of(point);
+    }
+
+    private void reconcilePoint(PointDrift pointDrift) {
+        log.warn("포인트 잔액 불일치 - memberId : {}, balance : {}, ledger : {}", pointDrift.memberId(), pointDrift.balance(), pointDrift.ledgerPoint());
+        if (memberPointBalanceRepository.rebuildBalance(pointDrift.memberId()) > 0) return;
+        var member = findMemberById(pointDrift.memberId());
+        memberPointBalanceRepository.save(new MemberPointBalance(member, pointDrift.ledgerPoint().intValue()));
+    }
+
+    private void increaseBalance(Long memberId, Integer point) {
+        if (memberPointBalanceRepository.increaseBalance(memberId, point) > 0) return;
+        var member = findMemberById(memberId);
+        memberPointBalanceRepository.save(new MemberPointBalance(member, point));
+    }
+
+    private List<PointCharge> getBalanceCharges(List<PointCharge> pointCharges) {
+        return pointCharges.stream()
+                .collect(Collectors.groupingBy(PointCharge::memberId, Collectors.summingInt(PointCharge::point)))
+                .entrySet()
+                .stream()
+                .map(entry -> PointCharge.of(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    private void createBalanceIfAbsent(PointCharge balanceCharge, int updateCount) {
+        if (updateCount != 0) return;
+        var member = findMemberById(balanceCharge.memberId());
+        memberPointBalanceRepository.save(new MemberPointBalance(member, balanceCharge.point()));
+    }
+
+    private void saveMemberPoint(Long memberId, Integer point) {
+        var member = memberRepository.getReferenceById(memberId);
+        memberPointRepository.save(new MemberPoint(member, point));
+    }
+
+    private Member findMemberById(Long memberId) {
+        return memberRepository.findById(memberId)
+                .orElseThrow(() -> new NotFoundElementException(memberId + "를 가진 이용자가 존재하지 않습니다."));
+    }
 }
@@ -2,6 +2,7 @@ package gift.service;
 
 import gift.exception.NotFoundElementException;
 import gift.repository.MemberRepository;
+import gift.service.auth.JwtPrincipalCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -12,17 +13,17 @@ import org.springframework.transaction.annotation.Transactional;
 public class MemberService {
 
     private final MemberRepository memberRepository;
-    private final WishProductService wishProductService;
     private final KakaoService kakaoService;
-    private final GiftOrderService giftOrderService;
+    private final MemberDataPurger memberDataPurger;
+    private final JwtPrincipalCache jwtPrincipalCache;
 
     public void deleteMember(Long memberId) {
         if (!memberRepository.existsById(memberId)) {
             throw new NotFoundElementException("존재하지 않는 이용자의 ID 입니다.");
         }
         kakaoService.deleteByMemberId(memberId);
-        giftOrderService.deleteAllByMemberId(memberId);
-        wishProductService.deleteAllByMemberId(memberId);
         memberRepository.deleteById(memberId);
+        memberDataPurger.purge(memberId);
+        jwtPrincipalCache.invalidateMember(memberId);
     }
 }
@@ -7,6 +7,8 @@ import gift.dto.option.OptionResponse;
 import gift.exception.BadRequestException;
 import gift.exception.DuplicatedNameException;
 import gift.exception.NotFoundElementException;
+import gift.metric.OrderMetrics;
+import gift.metric.OrderPhase;
 import gift.model.Option;
 import gift.model.Product;
 import gift.repository.OptionRepository;
@@ -16,6 +18,12 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
@@ -25,6 +33,8 @@ public class OptionService {
     private final OptionRepository optionRepository;
     private final ProductRepository productRepository;
     private final GiftOrderService giftOrderService;
+    private final OptionStockReserver optionStockReserver;
+    private final OrderMetrics orderMetrics;
 
     public OptionResponse addOption(Long productId, OptionRequest optionRequest) {
         optionNameValidation(productId, optionRequest.name());
@@ -32,9 +42,18 @@ public class OptionService {
         return getOptionResponseFromOption(option);
     }
 
+    public void addNewProductOptions(Product product, List<OptionRequest> optionRequests) {
+        optionNamesValidation(optionRequests);
+        var options = optionRequests.stream()
+                .map(optionRequest -> new Option(product, optionRequest.name(), optionRequest.quantity()))
+                .toList();
+        optionRepository.saveAll(options);
+    }
+
     public void updateOption(Long productId, Long id, OptionRequest optionRequest) {
         var option = findOptionById(id);
         optionProductValidation(productId, option);
+        optionStockReserver.discardReservations(id);
         option.updateOptionInfo(optionRequest.name(), optionRequest.quantity());
         optionRepository.save(option);
     }
@@ -57,27 +76,59 @@ public class OptionService {
     public void deleteOption(Long productId, Long optionId) {
         var option = findOptionById(optionId);
         optionProductValidation(productId, option);
-        if (!optionRepository.existsById(optionId)) {
-            throw new NotFoundElementException("존재하지 않는 상품 옵션의 ID 입니다.");
-        }
         giftOrderService.deleteAllByOptionId(optionId);
+        optionStockReserver.discardReservations(optionId);
         optionRepository.deleteById(optionId);
     }
 
-    public void deleteAllByProductId(Long productId) {
-        optionRepository.deleteAllByProductId(productId);
+    public GiftOrderResponse orderOption(Long memberId, GiftOrderRequest giftOrderRequest) {
+        var option = orderMetrics.record(OrderPhase.OPTION_LOOKUP, () -> findOptionById(giftOrderRequest.optionId()));
+        orderQuantityValidation(option, giftOrderRequest.quantity());
+        var order = giftOrderService.addGiftOrder(memberId, option, giftOrderRequest);
+        orderMetrics.record(OrderPhase.STOCK_UPDATE, () -> subtractOptionQuantity(option.getId(), giftOrderRequest.quantity()));
+        return order;
     }
 
-    public GiftOrderResponse orderOption(Long memberId, GiftOrderRequest giftOrderRequest) {
-        var option = subtractOptionQuantity(giftOrderRequest.optionId(), giftOrderRequest.quantity());
-        return giftOrderService.addGiftOrder(memberId, option, giftOrderRequest);
+    public List<GiftOrderResponse> orderOptions(Long memberId, List<GiftOrderRequest> giftOrderRequests) {
+        var orderQuantities = getOrderQuantities(giftOrderRequests);
+        var options = orderMetrics.record(OrderPhase.OPTION_LOOKUP, () -> findOptionsByIds(orderQuantities.keySet()));
+        orderQuantities.forEach((id, quantity) -> orderQuantityValidation(options.get(id), quantity));
+        orderMetrics.record(OrderPhase.STOCK_UPDATE, () -> orderQuantities.forEach(this::subtractOptionQuantity));
+        var orderedOptions = findOptionsByIds(orderQuantities.keySet());
+        return giftOrderService.addGiftOrders(memberId, orderedOptions, giftOrderRequests);
     }
 
-    private Option subtractOptionQuantity(Long id, Integer quantity) {
-        var option = optionRepository.findByIdWithLock(id)
-                .orElseThrow(() -> new NotFoundElementException(id + "를 가진 상품 옵션이 존재하지 않습니다."));
-        option.subtract(quantity);
-        return optionRepository.save(option);
+    private SortedMap<Long, Integer> getOrderQuantities(List<GiftOrderRequest> giftOrderRequests) {
+        return giftOrderRequests.stream()
+                .collect(Collectors.toMap(GiftOrderRequest::optionId, GiftOrderRequest::quantity, Integer::sum, TreeMap::new));
+    }
+
+    private Map<Long, Option> findOptionsByIds(Set<Long> ids) {
+        var options = optionRepository.findAllById(ids)
+                .stream()
+                .collect(Collectors.toMap(Option::getId, Function.identity()));
+        if (options.size() != ids.size()) {
+            throw new NotFoundElementException("존재하지 않는 상품 옵션의 ID 가 포함되어 있습니다.");
+        }
+        return options;
+    }
+
+    private void orderQuantityValidation(Option option, Integer quantity) {
+        if (optionStockReserver.isHotOption(option.getId())) return;
+        try {
+            option.quantityCheck(quantity);
+        } catch (BadRequestException exception) {
+            orderMetrics.countStockRejection();
+            throw exception;
+        }
+    }
+
+    private void subtractOptionQuantity(Long id, Integer quantity) {
+        if (optionStockReserver.reserve(id, quantity)) return;
+        if (optionRepository.subtractQuantity(id, quantity) == 0) {
+            orderMetrics.countStockRejection();
+            throw new BadRequestException("주문량이 옵션의 잔여 갯수를 초과합니다");
+        }
     }
 
     private Option saveOptionWithOptionRequest(Long productId, OptionRequest optionRequest) {
@@ -106,6 +157,16 @@ public class OptionService {
         }
     }
 
+    private void optionNamesValidation(List<OptionRequest> optionRequests) {
+        var distinctNameCount = optionRequests.stream()
+                .map(OptionRequest::name)
+                .distinct()
+                .count();
+        if (distinctNameCount != optionRequests.size()) {
+            throw new DuplicatedNameException("이미 존재하는 상품의 상품 옵션입니다.");
+        }
+    }
+
     private void optionProductValidation(Long productId, Option option) {
         if (!option.getProduct().getId().equals(productId)) {
             throw new BadRequestException("잘못된 접근입니다.");
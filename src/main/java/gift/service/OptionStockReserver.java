@@ -0,0 +1,132 @@
+package gift.service;
+
+import gift.config.properties.StockProperties;
+import gift.exception.BadRequestException;
+import gift.repository.OptionRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OptionStockReserver {
+
+    private final OptionRepository optionRepository;
+    private final StockProperties stockProperties;
+    private final PlatformTransactionManager transactionManager;
+    private final Map<Long, StripedStock> stripedStocks = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void registerHotOptions() {
+        stockProperties.hotOptionIds().forEach(this::registerHotOption);
+    }
+
+    public void registerHotOption(Long optionId) {
+        stripedStocks.computeIfAbsent(optionId, id -> new StripedStock(stockProperties.stripes()));
+    }
+
+    public boolean isHotOption(Long optionId) {
+        return stripedStocks.containsKey(optionId);
+    }
+
+    public boolean reserve(Long optionId, Integer quantity) {
+        var stripedStock = stripedStocks.get(optionId);
+        if (stripedStock == null) return false;
+        var generation = stripedStock.generation();
+        var stripe = stripedStock.reserve(quantity);
+        if (stripe >= 0) {
+            releaseOnRollback(stripedStock, stripe, quantity, generation);
+            return true;
+        }
+        refill(optionId, stripedStock, quantity);
+        return true;
+    }
+
+    public void returnReservations(Long optionId) {
+        var stripedStock = stripedStocks.get(optionId);
+        if (stripedStock == null) return;
+        var generation = stripedStock.generation();
+        var drained = stripedStock.drain();
+        if (drained == 0) return;
+        try {
+            addQuantity(optionId, drained);
+        } catch (RuntimeException exception) {
+            stripedStock.release(stripedStock.currentStripe(), drained, generation);
+            log.warn("옵션 {} 의 예약 재고 {} 개를 돌려놓지 못했습니다. 다음에 다시 시도합니다: {}", optionId, drained, exception.getMessage());
+        }
+    }
+
+    public void discardReservations(Long optionId) {
+        var stripedStock = stripedStocks.get(optionId);
+        if (stripedStock == null) return;
+        runAfterCommit(stripedStock::discard);
+    }
+
+    @Scheduled(fixedDelayString = "${stock.reservation-timeout:60000}")
+    public void returnIdleReservations() {
+        stripedStocks.forEach((optionId, stripedStock) -> {
+            if (stripedStock.isIdle(stockProperties.reservationTimeout())) {
+                returnReservations(optionId);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void returnAllReservations() {
+        stripedStocks.keySet().forEach(this::returnReservations);
+    }
+
+    private void refill(Long optionId, StripedStock stripedStock, Integer quantity) {
+        var chunkSize = stockProperties.chunkSize();
+        var generation = stripedStock.generation();
+        if (optionRepository.subtractQuantity(optionId, quantity + chunkSize) > 0) {
+            var stripe = stripedStock.currentStripe();
+            runAfterCommit(() -> stripedStock.release(stripe, chunkSize, generation));
+            return;
+        }
+        if (optionRepository.subtractQuantity(optionId, quantity) == 0) {
+            throw new BadRequestException("주문량이 옵션의 잔여 갯수를 초과합니다");
+        }
+    }
+
+    private void addQuantity(Long optionId, int quantity) {
+        var transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        transactionTemplate.executeWithoutResult(status -> optionRepository.addQuantity(optionId, quantity));
+    }
+
+    private void releaseOnRollback(StripedStock stripedStock, int stripe, int quantity, long generation) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) stripedStock.release(stripe, quantity, generation);
+            }
+        });
+    }
+
+    private void runAfterCommit(Runnable runnable) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            runnable.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runnable.run();
+            }
+        });
+    }
+}
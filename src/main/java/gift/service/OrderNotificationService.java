@@ -0,0 +1,77 @@
+package gift.service;
+
+import gift.config.properties.NotificationProperties;
+import gift.dto.notification.OrderNotificationTarget;
+import gift.exception.NotFoundElementException;
+import gift.model.GiftOrder;
+import gift.model.Member;
+import gift.model.NotificationStatus;
+import gift.model.OrderNotification;
+import gift.repository.OrderNotificationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class OrderNotificationService {
+
+    private final OrderNotificationRepository orderNotificationRepository;
+    private final NotificationProperties notificationProperties;
+
+    public void addOrderNotification(Member member, List<GiftOrder> giftOrders) {
+        var orderNotification = new OrderNotification(member, giftOrders);
+        orderNotificationRepository.save(orderNotification);
+    }
+
+    @Transactional(readOnly = true)
+    public List<OrderNotificationTarget> getDispatchableTargets() {
+        var pageable = PageRequest.of(0, notificationProperties.batchSize());
+        return orderNotificationRepository.findDispatchableTargets(NotificationStatus.PENDING, LocalDateTime.now(), pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> getGiftOrderIds(Long id) {
+        return orderNotificationRepository.findGiftOrderIdsById(id);
+    }
+
+    @Transactional(readOnly = true)
+    public NotificationStatus getStatusByGiftOrderId(Long giftOrderId) {
+        var orderNotification = orderNotificationRepository.findByGiftOrderId(giftOrderId)
+                .orElseThrow(() -> new NotFoundElementException(giftOrderId + "를 가진 주문의 알림이 존재하지 않습니다."));
+        return orderNotification.getStatus();
+    }
+
+    public boolean claim(Long id) {
+        var now = LocalDateTime.now();
+        var leaseUntil = now.plusNanos(notificationProperties.lease() * 1_000_000);
+        return orderNotificationRepository.claim(id, NotificationStatus.PENDING, now, leaseUntil) > 0;
+    }
+
+    public void markSent(Long id) {
+        var orderNotification = findOrderNotificationById(id);
+        orderNotification.markSent();
+    }
+
+    public void markFailed(Long id) {
+        var orderNotification = findOrderNotificationById(id);
+        orderNotification.markFailed();
+    }
+
+    public void retryLater(Long id) {
+        var orderNotification = findOrderNotificationById(id);
+        var backoff = notificationProperties.backoff() << Math.min(orderNotification.getAttemptCount() - 1, 16);
+        var nextAttemptAt = LocalDateTime.now().plusNanos(backoff * 1_000_000);
+        orderNotification.retryOrFail(notificationProperties.maxAttempts(), nextAttemptAt);
+    }
+
+    private OrderNotification findOrderNotificationById(Long id) {
+        return orderNotificationRepository.findById(id)
+                .orElseThrow(() -> new NotFoundElementException(id + "를 가진 주문 알림이 존재하지 않습니다."));
+    }
+}
@@ -0,0 +1,145 @@
+package gift.service;
+
+import gift.config.properties.PointProperties;
+import gift.dto.point.PointCharge;
+import gift.exception.ServiceUnavailableException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 포인트 충전 요청을 큐에 모아 flushInterval 마다 한 번에 저장하고, 요청 스레드는 자신의 충전이 커밋될 때까지 기다린다.
+ * 요청 스레드는 최대 chargeTimeout 만큼만 기다리며, 그 안에 저장이 시작되지 않은 충전은 큐에서 빼고 503 으로 실패시킨다.
+ * 저장이 이미 시작된 충전은 한 번 더 chargeTimeout 만큼 결과를 기다린 뒤에도 끝나지 않으면 결과를 알 수 없다는 503 으로 응답한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PointChargeBatcher {
+
+    private static final String CHARGE_DELAYED_MESSAGE = "포인트 충전이 지연되어 처리되지 않았습니다. 잠시 후 다시 시도해주세요.";
+    private static final String CHARGE_UNKNOWN_MESSAGE = "포인트 충전 결과를 확인하지 못했습니다. 잔액을 확인한 뒤 다시 시도해주세요.";
+    private static final String SHUTDOWN_MESSAGE = "서버가 종료 중이어서 포인트 충전을 처리하지 못했습니다.";
+
+    private final MemberPointService memberPointService;
+    private final PointProperties pointProperties;
+    private final BlockingQueue<PendingPointCharge> pendingPointCharges = new LinkedBlockingQueue<>();
+    private final ScheduledExecutorService flushExecutor = Executors.newSingleThreadScheduledExecutor();
+    private volatile boolean closed;
+
+    @PostConstruct
+    public void start() {
+        var flushInterval = pointProperties.flushInterval();
+        flushExecutor.scheduleWithFixedDelay(this::flush, flushInterval, flushInterval, TimeUnit.MILLISECONDS);
+    }
+
+    public void charge(Long memberId, Integer point) {
+        if (closed) {
+            throw new ServiceUnavailableException(SHUTDOWN_MESSAGE);
+        }
+        var pendingPointCharge = new PendingPointCharge(PointCharge.of(memberId, point), new CompletableFuture<>(), new AtomicBoolean());
+        pendingPointCharges.add(pendingPointCharge);
+        awaitCommit(pendingPointCharge);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        closed = true;
+        flushExecutor.shutdown();
+        flushExecutor.awaitTermination(pointProperties.flushInterval() * 10, TimeUnit.MILLISECONDS);
+        flush();
+        failPendingCharges();
+    }
+
+    void flush() {
+        while (!pendingPointCharges.isEmpty()) {
+            var batch = new ArrayList<PendingPointCharge>();
+            pendingPointCharges.drainTo(batch, pointProperties.batchSize());
+            flushBatch(batch.stream().filter(PendingPointCharge::claim).toList());
+        }
+    }
+
+    private void flushBatch(List<PendingPointCharge> batch) {
+        if (batch.isEmpty()) return;
+        try {
+            memberPointService.addPoints(batch.stream().map(PendingPointCharge::pointCharge).toList());
+            batch.forEach(pendingPointCharge -> pendingPointCharge.committed().complete(null));
+        } catch (Exception exception) {
+            log.warn("포인트 충전 일괄 처리에 실패하여 개별 처리합니다. (size : {})", batch.size(), exception);
+            batch.forEach(this::flushEach);
+        }
+    }
+
+    private void flushEach(PendingPointCharge pendingPointCharge) {
+        try {
+            var pointCharge = pendingPointCharge.pointCharge();
+            memberPointService.addPoint(pointCharge.memberId(), pointCharge.point());
+            pendingPointCharge.committed().complete(null);
+        } catch (Exception exception) {
+            pendingPointCharge.committed().completeExceptionally(exception);
+        }
+    }
+
+    private void failPendingCharges() {
+        var remaining = new ArrayList<PendingPointCharge>();
+        pendingPointCharges.drainTo(remaining);
+        remaining.stream()
+                .filter(PendingPointCharge::claim)
+                .forEach(pendingPointCharge -> pendingPointCharge.committed().completeExceptionally(new ServiceUnavailableException(SHUTDOWN_MESSAGE)));
+    }
+
+    private void awaitCommit(PendingPointCharge pendingPointCharge) {
+        try {
+            waitFor(pendingPointCharge.committed());
+        } catch (TimeoutException exception) {
+            cancelOrAwaitClaimed(pendingPointCharge);
+        }
+    }
+
+    private void cancelOrAwaitClaimed(PendingPointCharge pendingPointCharge) {
+        if (pendingPointCharge.claim()) {
+            pendingPointCharges.remove(pendingPointCharge);
+            throw new ServiceUnavailableException(CHARGE_DELAYED_MESSAGE);
+        }
+        try {
+            waitFor(pendingPointCharge.committed());
+        } catch (TimeoutException exception) {
+            throw new ServiceUnavailableException(CHARGE_UNKNOWN_MESSAGE);
+        }
+    }
+
+    private void waitFor(CompletableFuture<Void> committed) throws TimeoutException {
+        try {
+            committed.get(pointProperties.chargeTimeout(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(exception.getCause());
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException(CHARGE_UNKNOWN_MESSAGE);
+        }
+    }
+
+    private record PendingPointCharge(PointCharge pointCharge, CompletableFuture<Void> committed, AtomicBoolean claimed) {
+
+        private boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package gift.service;
+
+import gift.config.properties.DeletionProperties;
+import gift.event.ProductChangedEvent;
+import gift.repository.GiftOrderRepository;
+import gift.repository.OptionRepository;
+import gift.repository.ProductRepository;
+import gift.repository.WishProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 카테고리에 속한 상품과 상품에 딸린 옵션, 위시 리스트, 주문을 chunkSize 단위의 트랜잭션으로 나누어 삭제한다.
+ * 카테고리는 상품보다 먼저 삭제 표시되므로, 중간에 실패해 남은 상품은 {@link #resumeDeletedCategories()} 가 이어서 삭제한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductCascadeDeleter {
+
+    private final ProductRepository productRepository;
+    private final OptionRepository optionRepository;
+    private final WishProductRepository wishProductRepository;
+    private final GiftOrderRepository giftOrderRepository;
+    private final OptionStockReserver optionStockReserver;
+    private final PlatformTransactionManager transactionManager;
+    private final DeletionProperties deletionProperties;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    public void deleteAllByCategoryId(Long categoryId) {
+        deleteInChunks(pageable -> productRepository.findIdsByCategoryId(categoryId, pageable));
+    }
+
+    public void resumeDeletedCategories() {
+        deleteInChunks(productRepository::findIdsOfDeletedCategories);
+    }
+
+    public void deleteAllByProductIds(List<Long> productIds) {
+        optionRepository.findIdsByProductIds(productIds).forEach(optionStockReserver::discardReservations);
+        giftOrderRepository.deleteAllByProductIds(productIds);
+        optionRepository.deleteAllByProductIds(productIds);
+        wishProductRepository.deleteAllByProductIds(productIds);
+        productRepository.deleteAllByIdIn(productIds);
+    }
+
+    private void deleteInChunks(Function<Pageable, List<Long>> productIdFinder) {
+        var transactionTemplate = new TransactionTemplate(transactionManager);
+        var pageable = PageRequest.of(0, deletionProperties.chunkSize());
+        var productIds = productIdFinder.apply(pageable);
+        while (!productIds.isEmpty()) {
+            var chunk = productIds;
+            transactionTemplate.executeWithoutResult(status -> deleteChunk(chunk));
+            productIds = productIdFinder.apply(pageable);
+        }
+    }
+
+    private void deleteChunk(List<Long> productIds) {
+        deleteAllByProductIds(productIds);
+        productIds.forEach(productId -> applicationEventPublisher.publishEvent(ProductChangedEvent.of(productId)));
+    }
+}
@@ -0,0 +1,82 @@
+package gift.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import gift.config.properties.ProductCacheProperties;
+import gift.dto.product.ProductResponse;
+import gift.event.CategoryChangedEvent;
+import gift.event.ProductChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+@Component
+public class ProductCatalogCache {
+
+    private final Cache<Long, ProductResponse> products;
+    private final Cache<ProductPageKey, List<ProductResponse>> productPages;
+    private final AtomicLong version = new AtomicLong();
+
+    public ProductCatalogCache(ProductCacheProperties productCacheProperties, MeterRegistry meterRegistry) {
+        var expireAfterWrite = Duration.ofMillis(productCacheProperties.expireAfterWrite());
+        this.products = Caffeine.newBuilder()
+                .maximumSize(productCacheProperties.maximumSize())
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        this.productPages = Caffeine.newBuilder()
+                .maximumSize(productCacheProperties.pageMaximumSize())
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, products, "product");
+        CaffeineCacheMetrics.monitor(meterRegistry, productPages, "productPage");
+    }
+
+    public ProductResponse getProduct(Long id, Supplier<ProductResponse> loader) {
+        if (isWritingTransaction()) return loader.get();
+        var currentVersion = version.get();
+        var product = products.get(id, key -> loader.get());
+        discardIfChanged(products, id, currentVersion);
+        return product;
+    }
+
+    List<ProductResponse> getProducts(ProductPageKey productPageKey, Supplier<List<ProductResponse>> loader) {
+        if (isWritingTransaction()) return loader.get();
+        var currentVersion = version.get();
+        var page = productPages.get(productPageKey, key -> loader.get());
+        discardIfChanged(productPages, productPageKey, currentVersion);
+        return page;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void invalidateProduct(ProductChangedEvent productChangedEvent) {
+        version.incrementAndGet();
+        products.invalidate(productChangedEvent.productId());
+        productPages.invalidateAll();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void invalidateCategory(CategoryChangedEvent categoryChangedEvent) {
+        version.incrementAndGet();
+        products.invalidateAll();
+        productPages.invalidateAll();
+    }
+
+    private <K> void discardIfChanged(Cache<K, ?> cache, K key, long loadedVersion) {
+        if (version.get() == loadedVersion) return;
+        cache.invalidate(key);
+    }
+
+    private boolean isWritingTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive() && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+}
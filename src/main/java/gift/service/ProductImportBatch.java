@@ -0,0 +1,120 @@
+package gift.service;
+
+import gift.dto.option.OptionRequest;
+import gift.dto.option.ProductOptionName;
+import gift.dto.product.ProductAddRequest;
+import gift.dto.product.ProductImportError;
+import gift.exception.DuplicatedNameException;
+import gift.exception.InvalidProductNameWithKAKAOException;
+import gift.exception.NotFoundElementException;
+import gift.model.Category;
+import gift.model.Option;
+import gift.model.Product;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+class ProductImportBatch {
+
+    private final Map<Long, Category> categories;
+    private final Map<ProductImportKey, Product> products;
+    private final Map<ProductImportKey, Set<String>> optionNames = new HashMap<>();
+    @Getter
+    private final Set<Product> changedProducts = new LinkedHashSet<>();
+    @Getter
+    private final List<Product> newProducts = new ArrayList<>();
+    @Getter
+    private final List<Option> newOptions = new ArrayList<>();
+    @Getter
+    private final List<ProductImportError> errors = new ArrayList<>();
+    @Getter
+    private int importedCount = 0;
+
+    private ProductImportBatch(Map<Long, Category> categories, Map<ProductImportKey, Product> products) {
+        this.categories = categories;
+        this.products = products;
+    }
+
+    static ProductImportBatch of(List<Category> categories, List<Product> products, List<ProductOptionName> productOptionNames) {
+        var categoryMap = categories.stream()
+                .collect(Collectors.toMap(Category::getId, Function.identity()));
+        var productMap = products.stream()
+                .collect(Collectors.toMap(ProductImportBatch::getProductImportKey, Function.identity(), (first, second) -> first));
+        var batch = new ProductImportBatch(categoryMap, productMap);
+        batch.addOptionNames(productOptionNames);
+        return batch;
+    }
+
+    void add(ProductImportLine line) {
+        try {
+            addRequest(line.request());
+            importedCount++;
+        } catch (NotFoundElementException | InvalidProductNameWithKAKAOException | DuplicatedNameException exception) {
+            errors.add(ProductImportError.of(line.lineNumber(), exception.getMessage()));
+        }
+    }
+
+    private void addOptionNames(List<ProductOptionName> productOptionNames) {
+        var keysByProductId = products.values()
+                .stream()
+                .collect(Collectors.toMap(Product::getId, ProductImportBatch::getProductImportKey));
+        for (var productOptionName : productOptionNames) {
+            var key = keysByProductId.get(productOptionName.productId());
+            optionNames.computeIfAbsent(key, ignored -> new HashSet<>()).add(productOptionName.name());
+        }
+    }
+
+    private void addRequest(ProductAddRequest request) {
+        var category = findCategoryById(request.categoryId());
+        productNameValidation(request.name());
+        var key = ProductImportKey.of(request.categoryId(), request.name());
+        var names = optionNames.computeIfAbsent(key, ignored -> new HashSet<>());
+        optionNamesValidation(names, request.options());
+        var product = products.computeIfAbsent(key, ignored -> createProduct(request, category));
+        changedProducts.add(product);
+        for (var option : request.options()) {
+            names.add(option.name());
+            newOptions.add(new Option(product, option.name(), option.quantity()));
+        }
+    }
+
+    private Product createProduct(ProductAddRequest request, Category category) {
+        var product = new Product(request.name(), request.price(), request.imageUrl(), category);
+        newProducts.add(product);
+        return product;
+    }
+
+    private Category findCategoryById(Long categoryId) {
+        var category = categories.get(categoryId);
+        if (category == null) {
+            throw new NotFoundElementException(categoryId + "를 가진 상품 카테고리가 존재하지 않습니다.");
+        }
+        return category;
+    }
+
+    private void productNameValidation(String name) {
+        if (!name.contains("카카오")) return;
+        throw new InvalidProductNameWithKAKAOException("카카오가 포함된 문구는 담당 MD와 협의한 경우에만 사용할 수 있습니다.");
+    }
+
+    private void optionNamesValidation(Set<String> existingNames, List<OptionRequest> options) {
+        var requestNames = new HashSet<String>();
+        for (var option : options) {
+            if (existingNames.contains(option.name()) || !requestNames.add(option.name())) {
+                throw new DuplicatedNameException("이미 존재하는 상품의 상품 옵션입니다.");
+            }
+        }
+    }
+
+    private static ProductImportKey getProductImportKey(Product product) {
+        return ProductImportKey.of(product.getCategory().getId(), product.getName());
+    }
+}
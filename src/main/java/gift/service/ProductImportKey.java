@@ -0,0 +1,7 @@
+package gift.service;
+
+record ProductImportKey(Long categoryId, String name) {
+    static ProductImportKey of(Long categoryId, String name) {
+        return new ProductImportKey(categoryId, name);
+    }
+}
@@ -0,0 +1,9 @@
+package gift.service;
+
+import gift.dto.product.ProductAddRequest;
+
+record ProductImportLine(Long lineNumber, ProductAddRequest request) {
+    static ProductImportLine of(Long lineNumber, ProductAddRequest request) {
+        return new ProductImportLine(lineNumber, request);
+    }
+}
@@ -0,0 +1,30 @@
+package gift.service;
+
+import gift.dto.product.ProductImportError;
+import gift.dto.product.ProductImportResponse;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+class ProductImportReport {
+
+    private final List<ProductImportError> errors = new ArrayList<>();
+    private int importedCount = 0;
+
+    void addError(Long lineNumber, String message) {
+        errors.add(ProductImportError.of(lineNumber, message));
+    }
+
+    void addBatch(ProductImportBatch batch) {
+        importedCount += batch.getImportedCount();
+        errors.addAll(batch.getErrors());
+    }
+
+    ProductImportResponse toResponse() {
+        var sortedErrors = errors.stream()
+                .sorted(Comparator.comparing(ProductImportError::line))
+                .toList();
+        return ProductImportResponse.of(importedCount, sortedErrors);
+    }
+}
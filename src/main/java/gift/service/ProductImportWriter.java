@@ -0,0 +1,70 @@
+package gift.service;
+
+import gift.dto.option.ProductOptionName;
+import gift.event.ProductChangedEvent;
+import gift.model.Product;
+import gift.repository.CategoryRepository;
+import gift.repository.OptionRepository;
+import gift.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class ProductImportWriter {
+
+    private final ProductRepository productRepository;
+    private final OptionRepository optionRepository;
+    private final CategoryRepository categoryRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    void write(List<ProductImportLine> lines, ProductImportReport report) {
+        if (lines.isEmpty()) return;
+        var transactionTemplate = new TransactionTemplate(transactionManager);
+        try {
+            report.addBatch(transactionTemplate.execute(status -> writeInTransaction(lines)));
+        } catch (DataAccessException | TransactionException exception) {
+            lines.forEach(line -> report.addError(line.lineNumber(), "상품을 저장하지 못했습니다."));
+        }
+    }
+
+    private ProductImportBatch writeInTransaction(List<ProductImportLine> lines) {
+        var batch = createBatch(lines);
+        lines.forEach(batch::add);
+        productRepository.saveAll(batch.getNewProducts());
+        optionRepository.saveAll(batch.getNewOptions());
+        for (var product : batch.getChangedProducts()) {
+            applicationEventPublisher.publishEvent(ProductChangedEvent.of(product.getId()));
+        }
+        return batch;
+    }
+
+    private ProductImportBatch createBatch(List<ProductImportLine> lines) {
+        var categoryIds = lines.stream()
+                .map(line -> line.request().categoryId())
+                .distinct()
+                .toList();
+        var names = lines.stream()
+                .map(line -> line.request().name())
+                .distinct()
+                .toList();
+        var products = productRepository.findAllByCategoryIdInAndNameIn(categoryIds, names);
+        var productIds = products.stream()
+                .map(Product::getId)
+                .toList();
+        return ProductImportBatch.of(categoryRepository.findAllById(categoryIds), products, findOptionNames(productIds));
+    }
+
+    private List<ProductOptionName> findOptionNames(List<Long> productIds) {
+        if (productIds.isEmpty()) return List.of();
+        return optionRepository.findOptionNamesByProductIds(productIds);
+    }
+}
@@ -0,0 +1,136 @@
+package gift.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import gift.config.properties.ProductImportProperties;
+import gift.dto.product.ProductAddRequest;
+import gift.dto.product.ProductImportCsvRow;
+import gift.dto.product.ProductImportFormat;
+import gift.dto.product.ProductImportResponse;
+import gift.exception.BadRequestException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * NDJSON(한 줄에 상품 하나) 또는 CSV(한 행에 상품 옵션 하나, 첫 행은 열 이름 헤더)로 된 상품 목록을 한 행씩 읽어
+ * {@code product-import.batch-size} 개씩 나누어 트랜잭션 단위로 저장한다.
+ * CSV 는 헤더의 열 이름으로 필드를 찾으므로 열 순서는 자유롭고, 따옴표 안의 줄바꿈도 한 행으로 읽는다. 이때 실패한 행의 번호는 헤더를 1로 센 행 번호다.
+ * 같은 카테고리에 같은 이름의 상품이 이미 있으면 새 상품을 만들지 않고 옵션만 추가한다.
+ */
+@Component
+public class ProductImporter {
+
+    private static final String INVALID_LINE_MESSAGE = "형식이 올바르지 않은 행입니다.";
+
+    private final ProductImportWriter productImportWriter;
+    private final ProductImportProperties productImportProperties;
+    private final Validator validator;
+    private final ObjectReader ndjsonReader;
+    private final ObjectReader csvReader;
+
+    public ProductImporter(ProductImportWriter productImportWriter, ProductImportProperties productImportProperties, Validator validator, ObjectMapper objectMapper) {
+        this.productImportWriter = productImportWriter;
+        this.productImportProperties = productImportProperties;
+        this.validator = validator;
+        this.ndjsonReader = objectMapper.readerFor(ProductAddRequest.class);
+        this.csvReader = new CsvMapper().readerFor(ProductImportCsvRow.class).with(CsvSchema.emptySchema().withHeader());
+    }
+
+    public ProductImportResponse importProducts(InputStream inputStream, ProductImportFormat format) {
+        var report = new ProductImportReport();
+        try (var reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            readBatches(reader, format, report);
+        } catch (IOException exception) {
+            throw new BadRequestException("상품 목록을 읽을 수 없습니다.");
+        }
+        return report.toResponse();
+    }
+
+    private void readBatches(BufferedReader reader, ProductImportFormat format, ProductImportReport report) throws IOException {
+        var batch = new ArrayList<ProductImportLine>();
+        if (format == ProductImportFormat.CSV) {
+            readCsvRows(reader, batch, report);
+        }
+        if (format == ProductImportFormat.NDJSON) {
+            readNdjsonLines(reader, batch, report);
+        }
+        productImportWriter.write(batch, report);
+    }
+
+    private void readNdjsonLines(BufferedReader reader, List<ProductImportLine> batch, ProductImportReport report) throws IOException {
+        var lineNumber = 0L;
+        for (var line = reader.readLine(); line != null; line = reader.readLine()) {
+            lineNumber++;
+            if (line.isBlank()) continue;
+            addNdjsonLine(batch, lineNumber, line, report);
+        }
+    }
+
+    private void addNdjsonLine(List<ProductImportLine> batch, long lineNumber, String line, ProductImportReport report) {
+        try {
+            addRequest(batch, lineNumber, ndjsonReader.readValue(line), report);
+        } catch (JsonProcessingException exception) {
+            report.addError(lineNumber, INVALID_LINE_MESSAGE);
+        }
+    }
+
+    private void readCsvRows(BufferedReader reader, List<ProductImportLine> batch, ProductImportReport report) throws IOException {
+        try (MappingIterator<ProductImportCsvRow> rows = csvReader.readValues(reader)) {
+            for (var lineNumber = 2L; rows.hasNextValue(); lineNumber++) {
+                addCsvRow(batch, lineNumber, rows, report);
+            }
+        }
+    }
+
+    private void addCsvRow(List<ProductImportLine> batch, long lineNumber, MappingIterator<ProductImportCsvRow> rows, ProductImportReport report) throws IOException {
+        try {
+            addRequest(batch, lineNumber, rows.nextValue().toProductAddRequest(), report);
+        } catch (JsonProcessingException exception) {
+            report.addError(lineNumber, INVALID_LINE_MESSAGE);
+        }
+    }
+
+    private void addRequest(List<ProductImportLine> batch, long lineNumber, ProductAddRequest request, ProductImportReport report) {
+        try {
+            requestValidation(request);
+            batch.add(ProductImportLine.of(lineNumber, request));
+        } catch (BadRequestException exception) {
+            report.addError(lineNumber, exception.getMessage());
+            return;
+        }
+        if (batch.size() < productImportProperties.batchSize()) return;
+        productImportWriter.write(batch, report);
+        batch.clear();
+    }
+
+    private void requestValidation(ProductAddRequest request) {
+        if (request == null) {
+            throw new BadRequestException(INVALID_LINE_MESSAGE);
+        }
+        violationValidation(validator.validate(request));
+        if (request.options().stream().anyMatch(Objects::isNull)) {
+            throw new BadRequestException(INVALID_LINE_MESSAGE);
+        }
+        request.options().forEach(option -> violationValidation(validator.validate(option)));
+    }
+
+    private void violationValidation(Set<? extends ConstraintViolation<?>> violations) {
+        if (violations.isEmpty()) return;
+        throw new BadRequestException(violations.iterator().next().getMessage());
+    }
+}
@@ -0,0 +1,9 @@
+package gift.service;
+
+import org.springframework.data.domain.Pageable;
+
+record ProductPageKey(Long categoryId, Long lastId, Integer page, Integer size, String sort) {
+    static ProductPageKey of(Long categoryId, Long lastId, Pageable pageable) {
+        return new ProductPageKey(categoryId, lastId, pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort().toString());
+    }
+}
@@ -3,8 +3,11 @@ package gift.service;
 import gift.dto.category.CategoryResponse;
 import gift.dto.option.OptionRequest;
 import gift.dto.product.ProductAddRequest;
+import gift.dto.product.ProductImportFormat;
+import gift.dto.product.ProductImportResponse;
 import gift.dto.product.ProductResponse;
 import gift.dto.product.ProductUpdateRequest;
+import gift.event.ProductChangedEvent;
 import gift.exception.InvalidProductNameWithKAKAOException;
 import gift.exception.NotFoundElementException;
 import gift.model.Category;
@@ -12,10 +15,15 @@ import gift.model.Product;
 import gift.repository.CategoryRepository;
 import gift.repository.ProductRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.InputStream;
 import java.util.List;
 
 @Service
@@ -25,58 +33,73 @@ public class ProductService {
 
     private final ProductRepository productRepository;
     private final CategoryRepository categoryRepository;
-    private final WishProductService wishProductService;
     private final OptionService optionService;
+    private final ProductCatalogCache productCatalogCache;
+    private final ProductCascadeDeleter productCascadeDeleter;
+    private final ProductImporter productImporter;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     public ProductResponse addProduct(ProductAddRequest productAddRequest) {
         productNameValidation(productAddRequest.name());
         var product = saveProductWithProductRequest(productAddRequest);
         makeOptionsWithProductRequest(product, productAddRequest.options());
+        applicationEventPublisher.publishEvent(ProductChangedEvent.of(product.getId()));
         return getProductResponseFromProduct(product);
     }
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ProductImportResponse importProducts(InputStream inputStream, ProductImportFormat format) {
+        return productImporter.importProducts(inputStream, format);
+    }
+
     public void updateProduct(Long id, ProductUpdateRequest productUpdateRequest) {
         productNameValidation(productUpdateRequest.name());
         var product = findProductById(id);
         updateProductWithProductRequest(product, productUpdateRequest);
+        applicationEventPublisher.publishEvent(ProductChangedEvent.of(id));
     }
 
     @Transactional(readOnly = true)
     public ProductResponse getProduct(Long id) {
-        var product = findProductById(id);
-        return getProductResponseFromProduct(product);
+        return productCatalogCache.getProduct(id, () -> getProductResponseFromProduct(findProductById(id)));
     }
 
     @Transactional(readOnly = true)
     public List<ProductResponse> getProducts(Pageable pageable) {
-        return productRepository.findAll(pageable)
+        return productCatalogCache.getProducts(ProductPageKey.of(null, null, pageable), () -> productRepository.findAll(pageable)
                 .stream()
                 .map(this::getProductResponseFromProduct)
-                .toList();
+                .toList());
     }
 
     @Transactional(readOnly = true)
     public List<ProductResponse> getProducts(Long categoryId, Pageable pageable) {
-        return productRepository.findAllByCategoryId(categoryId, pageable)
+        return productCatalogCache.getProducts(ProductPageKey.of(categoryId, null, pageable), () -> productRepository.findAllByCategoryId(categoryId, pageable)
+                .stream()
+                .map(this::getProductResponseFromProduct)
+                .toList());
+    }
+
+    @Transactional(readOnly = true)
+    public List<ProductResponse> getProductsAfter(Long categoryId, Long lastId, Integer size) {
+        var pageable = PageRequest.of(0, size, Sort.by(Sort.Direction.DESC, "id"));
+        return productCatalogCache.getProducts(ProductPageKey.of(categoryId, lastId, pageable), () -> findProductsAfter(categoryId, lastId, pageable)
                 .stream()
                 .map(this::getProductResponseFromProduct)
-                .toList();
+                .toList());
     }
 
     public void deleteProduct(Long productId) {
         if (!productRepository.existsById(productId)) {
             throw new NotFoundElementException("존재하지 않는 상품의 ID 입니다.");
         }
-        optionService.deleteAllByProductId(productId);
-        wishProductService.deleteAllByProductId(productId);
-        productRepository.deleteById(productId);
+        productCascadeDeleter.deleteAllByProductIds(List.of(productId));
+        applicationEventPublisher.publishEvent(ProductChangedEvent.of(productId));
     }
 
+    @Transactional(propagation = Propagation.SUPPORTS)
     public void deleteAllProductWithCategoryId(Long categoryId) {
-        var products = productRepository.findAllByCategoryId(categoryId);
-        for (var product : products) {
-            deleteProduct(product.getId());
-        }
+        productCascadeDeleter.deleteAllByCategoryId(categoryId);
     }
 
     private Product saveProductWithProductRequest(ProductAddRequest productAddRequest) {
@@ -87,9 +110,7 @@ public class ProductService {
     }
 
     private void makeOptionsWithProductRequest(Product product, List<OptionRequest> options) {
-        for (var option : options) {
-            optionService.addOption(product.getId(), option);
-        }
+        optionService.addNewProductOptions(product, options);
     }
 
     private void updateProductWithProductRequest(Product product, ProductUpdateRequest productUpdateRequest) {
@@ -115,4 +136,11 @@ public class ProductService {
     private CategoryResponse getCategoryResponseFromCategory(Category category) {
         return CategoryResponse.of(category.getId(), category.getName(), category.getDescription(), category.getColor(), category.getImageUrl());
     }
+
+    private List<Product> findProductsAfter(Long categoryId, Long lastId, Pageable pageable) {
+        if (categoryId == null) {
+            return productRepository.findAllByIdLessThan(lastId, pageable);
+        }
+        return productRepository.findAllByCategoryIdAndIdLessThan(categoryId, lastId, pageable);
+    }
 }
@@ -0,0 +1,69 @@
+package gift.service;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 옵션 재고를 여러 칸에 나누어 보관한다.
+ * 관리자가 재고를 바꾸어 보관분을 버릴 때마다 세대가 올라가며, 이전 세대에 예약된 수량은 되돌려 놓지 않는다.
+ */
+class StripedStock {
+
+    private final AtomicIntegerArray stripes;
+    private final AtomicLong generation = new AtomicLong();
+    private volatile long lastAccessTime = System.currentTimeMillis();
+
+    StripedStock(int stripeCount) {
+        this.stripes = new AtomicIntegerArray(stripeCount);
+    }
+
+    int reserve(int quantity) {
+        lastAccessTime = System.currentTimeMillis();
+        var start = currentStripe();
+        for (int i = 0; i < stripes.length(); i++) {
+            var stripe = (start + i) % stripes.length();
+            if (tryReserve(stripe, quantity)) return stripe;
+        }
+        return -1;
+    }
+
+    synchronized void release(int stripe, int quantity, long reservedGeneration) {
+        if (generation.get() != reservedGeneration) return;
+        stripes.addAndGet(stripe, quantity);
+    }
+
+    long generation() {
+        return generation.get();
+    }
+
+    int currentStripe() {
+        return ThreadLocalRandom.current().nextInt(stripes.length());
+    }
+
+    synchronized int discard() {
+        generation.incrementAndGet();
+        return drain();
+    }
+
+    int drain() {
+        var drained = 0;
+        for (int i = 0; i < stripes.length(); i++) {
+            drained += stripes.getAndSet(i, 0);
+        }
+        return drained;
+    }
+
+    boolean isIdle(long timeout) {
+        return System.currentTimeMillis() - lastAccessTime > timeout;
+    }
+
+    private boolean tryReserve(int stripe, int quantity) {
+        var current = stripes.get(stripe);
+        while (current >= quantity) {
+            if (stripes.compareAndSet(stripe, current, current - quantity)) return true;
+            current = stripes.get(stripe);
+        }
+        return false;
+    }
+}
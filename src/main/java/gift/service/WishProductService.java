@@ -51,10 +51,12 @@ public class WishProductService {
 
     @Transactional(readOnly = true)
     public List<WishProductResponse> getWishProducts(Long memberId, Pageable pageable) {
-        return wishProductRepository.findAllByMemberId(memberId, pageable)
-                .stream()
-                .map(this::getWishProductResponseFromWishProduct)
-                .toList();
+        return wishProductRepository.findWishProductResponsesByMemberId(memberId, null, pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public List<WishProductResponse> getWishProducts(Long memberId, Long lastId, Pageable pageable) {
+        return wishProductRepository.findWishProductResponsesByMemberId(memberId, lastId, pageable);
     }
 
     public void deleteWishProduct(Long wishProductId) {
@@ -64,16 +66,8 @@ public class WishProductService {
         wishProductRepository.deleteById(wishProductId);
     }
 
-    public void deleteAllByProductId(Long productId) {
-        wishProductRepository.deleteAllByProductId(productId);
-    }
-
-    public void deleteAllByMemberId(Long memberId) {
-        wishProductRepository.deleteAllByMemberId(memberId);
-    }
-
-    public void deleteAllByMemberIdAndProductId(Long memberId, Long productId) {
-        wishProductRepository.deleteAllByMemberIdAndProductId(memberId, productId);
+    public void deleteAllByMemberIdAndProductIds(Long memberId, List<Long> productIds) {
+        wishProductRepository.deleteAllByMemberIdAndProductIds(memberId, productIds);
     }
 
     private WishProduct saveWishProductWithWishProductRequest(Product product, Member member) {
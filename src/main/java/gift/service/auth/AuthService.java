@@ -11,6 +11,7 @@ import gift.model.Member;
 import gift.model.OauthType;
 import gift.repository.MemberRepository;
 import gift.service.KakaoService;
+import gift.service.MemberPointService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,6 +24,7 @@ public class AuthService {
     private final MemberRepository memberRepository;
     private final KakaoService kakaoService;
     private final JwtProvider jwtProvider;
+    private final MemberPointService memberPointService;
 
     public AuthResponse register(RegisterRequest registerRequest) {
         var member = saveMemberWithMemberRequest(registerRequest);
@@ -58,12 +60,16 @@ public class AuthService {
     private Member saveMemberWithMemberRequest(RegisterRequest registerRequest) {
         emailValidation(registerRequest.email());
         var member = new Member(registerRequest.name(), registerRequest.email(), registerRequest.password());
-        return memberRepository.save(member);
+        var savedMember = memberRepository.save(member);
+        memberPointService.initializePoint(savedMember);
+        return savedMember;
     }
 
     private Member saveMemberWithKakaoAuth(KakaoAuthInformation kakaoAuthInformation) {
         var member = new Member(kakaoAuthInformation.name(), kakaoAuthInformation.email(), OauthType.KAKAO);
-        return memberRepository.save(member);
+        var savedMember = memberRepository.save(member);
+        memberPointService.initializePoint(savedMember);
+        return savedMember;
     }
 
     private Member getMemberWithKakaoAuth(KakaoAuthInformation kakaoAuthInformation) {
@@ -0,0 +1,81 @@
+package gift.service.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import gift.config.properties.JwtProperties;
+import gift.dto.auth.MemberPrincipal;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class JwtPrincipalCache {
+
+    private final Cache<String, MemberPrincipal> principals;
+    private final AtomicLong invalidationVersion = new AtomicLong();
+
+    public JwtPrincipalCache(JwtProperties jwtProperties) {
+        this.principals = Caffeine.newBuilder()
+                .maximumSize(jwtProperties.principalCacheSize())
+                .expireAfter(new TokenExpiry())
+                .build();
+    }
+
+    public MemberPrincipal get(String token) {
+        return principals.getIfPresent(token);
+    }
+
+    public long getInvalidationVersion() {
+        return invalidationVersion.get();
+    }
+
+    public void put(String token, MemberPrincipal principal, long version) {
+        principals.put(token, principal);
+        if (invalidationVersion.get() != version) {
+            principals.asMap().remove(token, principal);
+        }
+    }
+
+    public void invalidateMember(Long memberId) {
+        runAfterCommit(() -> {
+            invalidationVersion.incrementAndGet();
+            principals.asMap().values().removeIf(principal -> principal.memberId().equals(memberId));
+        });
+    }
+
+    private void runAfterCommit(Runnable runnable) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            runnable.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runnable.run();
+            }
+        });
+    }
+
+    private static class TokenExpiry implements Expiry<String, MemberPrincipal> {
+
+        @Override
+        public long expireAfterCreate(String token, MemberPrincipal principal, long currentTime) {
+            var remainingMillis = Math.max(principal.expiresAt() - System.currentTimeMillis(), 0);
+            return TimeUnit.MILLISECONDS.toNanos(remainingMillis);
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, MemberPrincipal principal, long currentTime, long currentDuration) {
+            return expireAfterCreate(token, principal, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String token, MemberPrincipal principal, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
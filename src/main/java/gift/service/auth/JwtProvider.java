@@ -1,27 +1,47 @@
 package gift.service.auth;
 
+import gift.config.properties.JwtAlgorithm;
 import gift.config.properties.JwtProperties;
+import gift.dto.auth.VerifiedToken;
 import gift.model.Member;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
-import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
 import java.util.Date;
 
 @Component
-@RequiredArgsConstructor
 public class JwtProvider {
 
     private final JwtProperties jwtProperties;
+    private final Key signingKey;
+    private final JwtParser jwtParser;
+
+    public JwtProvider(JwtProperties jwtProperties) {
+        this.jwtProperties = jwtProperties;
+        this.signingKey = createSigningKey();
+        this.jwtParser = createJwtParser();
+    }
 
     public String generateToken(Member member) {
+        if (signingKey == null) {
+            throw new IllegalStateException("토큰 서명에 사용할 개인 키가 설정되지 않았습니다.");
+        }
         return Jwts.builder()
                 .subject(member.getId().toString())
                 .issuedAt(new Date())
                 .expiration(new Date(System.currentTimeMillis() + jwtProperties.expiredTime()))
-                .signWith(Keys.hmacShaKeyFor(jwtProperties.secretKey().getBytes()))
+                .signWith(signingKey)
                 .compact();
     }
 
@@ -29,11 +49,58 @@ public class JwtProvider {
         return Long.parseLong(decryptToken(jwt).getSubject());
     }
 
+    public VerifiedToken verifyToken(String jwt) {
+        var claims = decryptToken(jwt);
+        return VerifiedToken.of(Long.parseLong(claims.getSubject()), claims.getExpiration().getTime());
+    }
+
     private Claims decryptToken(String jwt) {
-        return Jwts.parser()
-                .verifyWith(Keys.hmacShaKeyFor(jwtProperties.secretKey().getBytes()))
-                .build()
-                .parseSignedClaims(jwt)
+        return jwtParser.parseSignedClaims(jwt)
                 .getPayload();
     }
+
+    private Key createSigningKey() {
+        if (jwtProperties.algorithm().isSymmetric()) {
+            return Keys.hmacShaKeyFor(jwtProperties.secretKey().getBytes());
+        }
+        if (jwtProperties.privateKey() == null) return null;
+        return decodePrivateKey(jwtProperties.algorithm(), jwtProperties.privateKey());
+    }
+
+    private JwtParser createJwtParser() {
+        if (jwtProperties.algorithm().isSymmetric()) {
+            return Jwts.parser()
+                    .verifyWith(Keys.hmacShaKeyFor(jwtProperties.secretKey().getBytes()))
+                    .build();
+        }
+        if (jwtProperties.publicKey() == null) {
+            throw new IllegalStateException(jwtProperties.algorithm() + " 토큰 검증에 사용할 공개 키가 설정되지 않았습니다.");
+        }
+        return Jwts.parser()
+                .verifyWith(decodePublicKey(jwtProperties.algorithm(), jwtProperties.publicKey()))
+                .build();
+    }
+
+    private PrivateKey decodePrivateKey(JwtAlgorithm algorithm, String privateKey) {
+        try {
+            var keySpec = new PKCS8EncodedKeySpec(decodePem(privateKey));
+            return KeyFactory.getInstance(algorithm.getKeyAlgorithm()).generatePrivate(keySpec);
+        } catch (GeneralSecurityException | IllegalArgumentException exception) {
+            throw new IllegalStateException(algorithm + " 개인 키(PKCS#8)를 읽을 수 없습니다.", exception);
+        }
+    }
+
+    private PublicKey decodePublicKey(JwtAlgorithm algorithm, String publicKey) {
+        try {
+            var keySpec = new X509EncodedKeySpec(decodePem(publicKey));
+            return KeyFactory.getInstance(algorithm.getKeyAlgorithm()).generatePublic(keySpec);
+        } catch (GeneralSecurityException | IllegalArgumentException exception) {
+            throw new IllegalStateException(algorithm + " 공개 키(X.509)를 읽을 수 없습니다.", exception);
+        }
+    }
+
+    private byte[] decodePem(String key) {
+        var base64 = key.replaceAll("-----[A-Z ]+-----", "").replaceAll("\\s", "");
+        return Base64.getDecoder().decode(base64);
+    }
 }
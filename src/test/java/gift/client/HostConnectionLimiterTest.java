@@ -0,0 +1,60 @@
+package gift.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.any;
+
+class HostConnectionLimiterTest {
+
+    private static final long ACQUIRE_TIMEOUT = 200L;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final HostConnectionLimiter hostConnectionLimiter = new HostConnectionLimiter(1, ACQUIRE_TIMEOUT, meterRegistry);
+
+    @Test
+    @DisplayName("호스트의 연결이 모두 사용 중이면 다음 요청은 대기하다 시간 초과로 실패하고, 연결이 반환되면 다시 요청할 수 있다.")
+    void failInterceptWithSaturatedHost() throws Exception {
+        //given
+        var request = Mockito.mock(HttpRequest.class);
+        Mockito.when(request.getURI()).thenReturn(URI.create("https://kapi.kakao.com/v2/user/me"));
+        var execution = Mockito.mock(ClientHttpRequestExecution.class);
+        Mockito.when(execution.execute(any(), any())).thenAnswer(invocation -> Mockito.mock(ClientHttpResponse.class));
+        var firstResponse = hostConnectionLimiter.intercept(request, new byte[0], execution);
+        //when
+        var startTime = System.nanoTime();
+        var blockedRequest = CompletableFuture.runAsync(() -> interceptQuietly(request, execution));
+        //then
+        Assertions.assertThatThrownBy(blockedRequest::join).hasCauseInstanceOf(IllegalStateException.class).hasRootCauseInstanceOf(IOException.class);
+        Assertions.assertThat((System.nanoTime() - startTime) / 1_000_000).isGreaterThanOrEqualTo(ACQUIRE_TIMEOUT);
+        Assertions.assertThat(getGaugeValue("gift.http.client.connections.active")).isEqualTo(1);
+        Assertions.assertThat(meterRegistry.get("gift.http.client.acquire.timeouts").functionCounter().count()).isEqualTo(1);
+
+        firstResponse.close();
+        hostConnectionLimiter.intercept(request, new byte[0], execution).close();
+        Assertions.assertThat(getGaugeValue("gift.http.client.connections.active")).isEqualTo(0);
+        Assertions.assertThat(meterRegistry.get("gift.http.client.requests").functionCounter().count()).isEqualTo(2);
+    }
+
+    private double getGaugeValue(String name) {
+        return meterRegistry.get(name).tag("host", "https://kapi.kakao.com:-1").gauge().value();
+    }
+
+    private void interceptQuietly(HttpRequest request, ClientHttpRequestExecution execution) {
+        try {
+            hostConnectionLimiter.intercept(request, new byte[0], execution);
+        } catch (IOException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+}
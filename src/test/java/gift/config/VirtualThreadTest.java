@@ -0,0 +1,35 @@
+package gift.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@SpringBootTest(properties = "spring.threads.virtual.enabled=true")
+class VirtualThreadTest {
+
+    @Autowired
+    @Qualifier("notificationExecutor")
+    private ThreadPoolTaskExecutor notificationExecutor;
+    @Autowired
+    @Qualifier("memberPurgeExecutor")
+    private ThreadPoolTaskExecutor memberPurgeExecutor;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("가상 스레드 모드로 시작하면 비동기 작업이 가상 스레드에서 실행되고 캐리어 스레드 고정 지표가 등록된다.")
+    void successStartWithVirtualThreads() throws Exception {
+        //when
+        var notificationThreadIsVirtual = notificationExecutor.submit(() -> Thread.currentThread().isVirtual()).get();
+        var purgeThreadIsVirtual = memberPurgeExecutor.submit(() -> Thread.currentThread().isVirtual()).get();
+        //then
+        Assertions.assertThat(notificationThreadIsVirtual).isTrue();
+        Assertions.assertThat(purgeThreadIsVirtual).isTrue();
+        Assertions.assertThat(meterRegistry.find("gift.virtual.thread.pinned").timer()).isNotNull();
+    }
+}
@@ -0,0 +1,78 @@
+package gift.controller;
+
+import gift.model.Member;
+import gift.repository.MemberRepository;
+import gift.service.auth.JwtProvider;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@Transactional
+class ActuatorTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private JwtProvider jwtProvider;
+
+    @Test
+    @DisplayName("헬스 체크는 토큰 없이 조회할 수 있다")
+    void successGetHealthWithoutToken() throws Exception {
+        //given
+        var getRequest = get("/actuator/health");
+        //when
+        var result = mockMvc.perform(getRequest);
+        //then
+        result.andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("프로메테우스 지표는 토큰 없이 조회할 수 없다")
+    void failGetPrometheusWithoutToken() throws Exception {
+        //given
+        var getRequest = get("/actuator/prometheus");
+        //when
+        var result = mockMvc.perform(getRequest);
+        //then
+        result.andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("프로메테우스 지표는 일반 이용자가 조회할 수 없다")
+    void failGetPrometheusWithMemberToken() throws Exception {
+        //given
+        var member = memberRepository.save(new Member("지표이용자", "metricmember@naver.com", "password"));
+        var getRequest = get("/actuator/prometheus")
+                .header("Authorization", "Bearer " + jwtProvider.generateToken(member));
+        //when
+        var result = mockMvc.perform(getRequest);
+        //then
+        result.andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("프로메테우스 지표는 관리자가 조회할 수 있다")
+    void successGetPrometheusWithAdminToken() throws Exception {
+        //given
+        var admin = memberRepository.findById(2L).get();
+        var getRequest = get("/actuator/prometheus")
+                .header("Authorization", "Bearer " + jwtProvider.generateToken(admin));
+        //when
+        var result = mockMvc.perform(getRequest);
+        //then
+        result.andExpect(status().isOk());
+    }
+}
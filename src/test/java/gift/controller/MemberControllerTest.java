@@ -10,9 +10,11 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -41,4 +43,23 @@ public class MemberControllerTest {
         //then
         result.andExpect(status().isNoContent());
     }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("탈퇴한 회원의 토큰은 캐시에 남아있지 않아 더 이상 인증되지 않는다")
+    void failAuthenticateWithDeletedMemberToken() throws Exception {
+        //given
+        var registerRequest = new RegisterRequest("cache", "cache@naver.com", "testPassword");
+        var auth = authService.register(registerRequest);
+        var getRequest = get("/api/points")
+                .header("Authorization", "Bearer " + auth.token());
+        mockMvc.perform(getRequest).andExpect(status().isOk());
+        var deleteRequest = delete("/api/members")
+                .header("Authorization", "Bearer " + auth.token());
+        mockMvc.perform(deleteRequest).andExpect(status().isNoContent());
+        //when
+        var result = mockMvc.perform(getRequest);
+        //then
+        result.andExpect(status().isUnauthorized());
+    }
 }
@@ -0,0 +1,123 @@
+package gift.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gift.dto.auth.LoginRequest;
+import gift.dto.point.PointRequest;
+import gift.dto.point.PointResponse;
+import gift.exception.ExceptionResponse;
+import gift.service.MemberPointService;
+import gift.service.PointChargeBatcher;
+import gift.service.auth.AuthService;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class PointControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private AuthService authService;
+    @Autowired
+    private MemberPointService memberPointService;
+    @Autowired
+    private PointChargeBatcher pointChargeBatcher;
+    private String memberToken;
+
+    @BeforeEach
+    @DisplayName("이용자의 토큰 값 세팅하기")
+    void setBaseData() {
+        var loginRequest = new LoginRequest("member@naver.com", "password");
+        memberToken = authService.login(loginRequest).token();
+    }
+
+    @Test
+    @DisplayName("정상 포인트 충전하기")
+    void successAddPoint() throws Exception {
+        //given
+        var beforePoint = getPoint().point();
+        var postRequest = post("/api/points")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", "Bearer " + memberToken)
+                .content(objectMapper.writeValueAsString(new PointRequest(1000)));
+        //when
+        var result = mockMvc.perform(postRequest).andExpect(status().isOk()).andReturn();
+        //then
+        var response = objectMapper.readValue(result.getResponse().getContentAsString(), PointResponse.class);
+        Assertions.assertThat(response.point()).isEqualTo(beforePoint + 1000);
+        Assertions.assertThat(getPoint().point()).isEqualTo(beforePoint + 1000);
+    }
+
+    @Test
+    @DisplayName("0 이하의 포인트 충전하기")
+    void failAddPointWithZeroPoint() throws Exception {
+        //given
+        var postRequest = post("/api/points")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", "Bearer " + memberToken)
+                .content(objectMapper.writeValueAsString(new PointRequest(0)));
+        //when
+        var result = mockMvc.perform(postRequest).andReturn();
+        //then
+        var response = getResponseMessage(result);
+        Assertions.assertThat(response.status()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        Assertions.assertThat(response.message()).isEqualTo("포인트는 최소 1원 이상이어야 추가할 수 있습니다.");
+    }
+
+    @Test
+    @DisplayName("동시성 테스트 - 1000개의 충전 요청을 일괄 처리해도 모든 포인트가 반영된다.")
+    void concurrencyChargeWithBatcherTest() throws InterruptedException {
+        //given
+        int requestCount = 1000;
+        var beforePoint = memberPointService.getPoint(1L).point();
+        var executorService = Executors.newFixedThreadPool(50);
+        var countDownLatch = new CountDownLatch(requestCount);
+        //when
+        for (int i = 0; i < requestCount; i++) {
+            executorService.execute(() -> {
+                try {
+                    pointChargeBatcher.charge(1L, 10);
+                } finally {
+                    countDownLatch.countDown();
+                }
+            });
+        }
+        countDownLatch.await();
+        executorService.shutdown();
+        //then
+        Assertions.assertThat(memberPointService.getPoint(1L).point()).isEqualTo(beforePoint + requestCount * 10);
+    }
+
+    private PointResponse getPoint() throws Exception {
+        var getRequest = get("/api/points")
+                .header("Authorization", "Bearer " + memberToken);
+        var result = mockMvc.perform(getRequest).andExpect(status().isOk()).andReturn();
+        return objectMapper.readValue(result.getResponse().getContentAsString(), PointResponse.class);
+    }
+
+    private ExceptionResponse getResponseMessage(MvcResult result) throws Exception {
+        var resultString = result.getResponse().getContentAsString();
+        return objectMapper.readValue(resultString, ExceptionResponse.class);
+    }
+}
@@ -1,11 +1,17 @@
 package gift.controller;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import gift.dto.auth.LoginRequest;
+import gift.dto.category.CategoryRequest;
+import gift.dto.cursor.Cursor;
 import gift.dto.option.OptionRequest;
 import gift.dto.product.ProductAddRequest;
+import gift.dto.product.ProductImportError;
+import gift.dto.product.ProductImportResponse;
 import gift.dto.product.ProductResponse;
 import gift.exception.ExceptionResponse;
+import gift.service.CategoryService;
 import gift.service.OptionService;
 import gift.service.ProductService;
 import gift.service.auth.AuthService;
@@ -16,12 +22,15 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -44,6 +53,8 @@ class ProductControllerTest {
     private ProductService productService;
     @Autowired
     private OptionService optionService;
+    @Autowired
+    private CategoryService categoryService;
     private String managerToken;
     private String memberToken;
 
@@ -252,6 +263,168 @@ class ProductControllerTest {
         productService.deleteProduct(productId);
     }
 
+    @Test
+    @DisplayName("커서로 상품 목록을 이어서 조회하기")
+    void successGetProductsWithCursor() throws Exception {
+        //given
+        var firstRequest = get("/api/products?size=2")
+                .header("Authorization", "Bearer " + memberToken);
+        var firstResult = mockMvc.perform(firstRequest).andExpect(status().isOk()).andReturn();
+        var firstProducts = getProductResponses(firstResult);
+        var nextCursor = firstResult.getResponse().getHeader(Cursor.NEXT_CURSOR_HEADER);
+        var nextRequest = get("/api/products?size=2&after=" + nextCursor)
+                .header("Authorization", "Bearer " + memberToken);
+        //when
+        var nextResult = mockMvc.perform(nextRequest).andExpect(status().isOk()).andReturn();
+        //then
+        var nextProducts = getProductResponses(nextResult);
+        Assertions.assertThat(firstProducts.size()).isEqualTo(2);
+        Assertions.assertThat(nextCursor).isNotNull();
+        Assertions.assertThat(nextProducts).isNotEmpty();
+        Assertions.assertThat(nextProducts.get(0).id()).isLessThan(firstProducts.get(1).id());
+    }
+
+    @Test
+    @DisplayName("id 내림차순이 아닌 정렬로 상품 목록을 조회하면 다음 커서를 돌려주지 않고, 커서와 함께 조회하면 예외가 발생한다")
+    void failGetProductsWithCursorAndOtherSort() throws Exception {
+        //given
+        var firstRequest = get("/api/products?size=2")
+                .header("Authorization", "Bearer " + memberToken);
+        var nextCursor = mockMvc.perform(firstRequest).andReturn().getResponse().getHeader(Cursor.NEXT_CURSOR_HEADER);
+        var sortedRequest = get("/api/products?size=2&sort=price,asc")
+                .header("Authorization", "Bearer " + memberToken);
+        var sortedCursorRequest = get("/api/products?size=2&sort=price,asc&after=" + nextCursor)
+                .header("Authorization", "Bearer " + memberToken);
+        //when
+        var sortedResult = mockMvc.perform(sortedRequest).andExpect(status().isOk()).andReturn();
+        var sortedCursorResult = mockMvc.perform(sortedCursorRequest);
+        //then
+        Assertions.assertThat(sortedResult.getResponse().getHeader(Cursor.NEXT_CURSOR_HEADER)).isNull();
+        sortedCursorResult.andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("잘못된 커서로 상품 목록을 조회하면 예외가 발생한다")
+    void failGetProductsWithInvalidCursor() throws Exception {
+        //given
+        var getRequest = get("/api/products?after=invalid-cursor")
+                .header("Authorization", "Bearer " + memberToken);
+        //when
+        var result = mockMvc.perform(getRequest);
+        //then
+        result.andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("NDJSON 상품 목록을 가져오면 올바른 행만 저장되고, 실패한 행은 줄 번호로 응답한다")
+    void successImportProductsWithNdjson() throws Exception {
+        //given
+        var category = categoryService.addCategory(new CategoryRequest("가져오기카테고리", "설명", "#111111", "이미지"));
+        var options = List.of(new OptionRequest("옵션1", 10), new OptionRequest("옵션2", 10));
+        var content = String.join("\n",
+                objectMapper.writeValueAsString(new ProductAddRequest("가져온상품", 1000, "이미지 주소", category.id(), options)),
+                "{ 잘못된 행",
+                objectMapper.writeValueAsString(new ProductAddRequest("카카오상품", 1000, "이미지 주소", category.id(), options)));
+        var postRequest = post("/api/products/import")
+                .contentType("application/x-ndjson")
+                .header("Authorization", "Bearer " + managerToken)
+                .content(content.getBytes(StandardCharsets.UTF_8));
+        //when
+        var result = mockMvc.perform(postRequest).andExpect(status().isOk()).andReturn();
+        //then
+        var response = getImportResponse(result);
+        Assertions.assertThat(response.importedCount()).isEqualTo(1);
+        Assertions.assertThat(response.errors()).extracting(ProductImportError::line).containsExactly(2L, 3L);
+        var products = productService.getProducts(category.id(), PageRequest.of(0, 10));
+        Assertions.assertThat(products).extracting(ProductResponse::name).containsExactly("가져온상품");
+        Assertions.assertThat(optionService.getOptions(products.get(0).id()).size()).isEqualTo(2);
+
+        categoryService.deleteCategory(category.id());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("CSV 상품 목록은 같은 상품의 옵션 행을 하나의 상품으로 묶고, 중복 옵션과 없는 카테고리는 실패로 응답한다")
+    void successImportProductsWithCsv() throws Exception {
+        //given
+        var category = categoryService.addCategory(new CategoryRequest("CSV카테고리", "설명", "#111111", "이미지"));
+        var content = String.join("\n",
+                "name,price,imageUrl,categoryId,optionName,optionQuantity",
+                "CSV상품,1000,이미지 주소," + category.id() + ",옵션1,10",
+                "CSV상품,1000,이미지 주소," + category.id() + ",옵션2,10",
+                "CSV상품,1000,이미지 주소," + category.id() + ",옵션1,10",
+                "CSV상품,1000,이미지 주소,99999,옵션1,10");
+        var postRequest = post("/api/products/import")
+                .contentType("text/csv")
+                .header("Authorization", "Bearer " + managerToken)
+                .content(content.getBytes(StandardCharsets.UTF_8));
+        //when
+        var result = mockMvc.perform(postRequest).andExpect(status().isOk()).andReturn();
+        //then
+        var response = getImportResponse(result);
+        Assertions.assertThat(response.importedCount()).isEqualTo(2);
+        Assertions.assertThat(response.errors()).extracting(ProductImportError::line).containsExactly(4L, 5L);
+        var products = productService.getProducts(category.id(), PageRequest.of(0, 10));
+        Assertions.assertThat(products.size()).isEqualTo(1);
+        Assertions.assertThat(optionService.getOptions(products.get(0).id()).size()).isEqualTo(2);
+
+        categoryService.deleteCategory(category.id());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("NDJSON 상품 목록의 null 행과 null 옵션은 해당 줄의 실패로 응답한다")
+    void failImportProductsWithNullNdjsonLines() throws Exception {
+        //given
+        var category = categoryService.addCategory(new CategoryRequest("널행카테고리", "설명", "#111111", "이미지"));
+        var options = List.of(new OptionRequest("옵션1", 10));
+        var content = String.join("\n",
+                objectMapper.writeValueAsString(new ProductAddRequest("널행상품", 1000, "이미지 주소", category.id(), options)),
+                "null",
+                "{\"name\":\"널옵션상품\",\"price\":1000,\"imageUrl\":\"이미지 주소\",\"categoryId\":" + category.id() + ",\"options\":[null]}");
+        var postRequest = post("/api/products/import")
+                .contentType("application/x-ndjson")
+                .header("Authorization", "Bearer " + managerToken)
+                .content(content.getBytes(StandardCharsets.UTF_8));
+        //when
+        var result = mockMvc.perform(postRequest).andExpect(status().isOk()).andReturn();
+        //then
+        var response = getImportResponse(result);
+        Assertions.assertThat(response.importedCount()).isEqualTo(1);
+        Assertions.assertThat(response.errors()).extracting(ProductImportError::line).containsExactly(2L, 3L);
+
+        categoryService.deleteCategory(category.id());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("CSV 상품 목록은 헤더의 열 이름으로 읽어 열 순서와 따옴표 안의 줄바꿈에 상관없이 행 단위로 처리한다")
+    void successImportProductsWithCsvHeaderOrderAndQuotedNewline() throws Exception {
+        //given
+        var category = categoryService.addCategory(new CategoryRequest("CSV헤더카테고리", "설명", "#111111", "이미지"));
+        var content = String.join("\n",
+                "categoryId,optionName,optionQuantity,name,price,imageUrl",
+                category.id() + ",옵션1,10,CSV헤더상품,1000,\"이미지\n주소\"",
+                category.id() + ",옵션2,수량,CSV헤더상품,1000,이미지 주소",
+                category.id() + ",옵션3,10,CSV헤더상품,1000,이미지 주소");
+        var postRequest = post("/api/products/import")
+                .contentType("text/csv")
+                .header("Authorization", "Bearer " + managerToken)
+                .content(content.getBytes(StandardCharsets.UTF_8));
+        //when
+        var result = mockMvc.perform(postRequest).andExpect(status().isOk()).andReturn();
+        //then
+        var response = getImportResponse(result);
+        Assertions.assertThat(response.importedCount()).isEqualTo(2);
+        Assertions.assertThat(response.errors()).extracting(ProductImportError::line).containsExactly(3L);
+        var products = productService.getProducts(category.id(), PageRequest.of(0, 10));
+        Assertions.assertThat(products).extracting(ProductResponse::name).containsExactly("CSV헤더상품");
+        Assertions.assertThat(optionService.getOptions(products.get(0).id()).size()).isEqualTo(2);
+
+        categoryService.deleteCategory(category.id());
+    }
+
     private void deleteProducts(List<ProductResponse> productResponses) {
         for (var product : productResponses) {
             productService.deleteProduct(product.id());
@@ -264,8 +437,19 @@ class ProductControllerTest {
         productService.deleteProduct(Long.parseLong(productId));
     }
 
+    private ProductImportResponse getImportResponse(MvcResult result) throws Exception {
+        var resultString = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        return objectMapper.readValue(resultString, ProductImportResponse.class);
+    }
+
     private ExceptionResponse getResponseMessage(MvcResult result) throws Exception {
         var resultString = result.getResponse().getContentAsString();
         return objectMapper.readValue(resultString, ExceptionResponse.class);
     }
+
+    private List<ProductResponse> getProductResponses(MvcResult result) throws Exception {
+        var resultString = result.getResponse().getContentAsString();
+        return objectMapper.readValue(resultString, new TypeReference<>() {
+        });
+    }
 }
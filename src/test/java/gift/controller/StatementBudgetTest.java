@@ -0,0 +1,85 @@
+package gift.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gift.dto.auth.LoginRequest;
+import gift.metric.StatementBudgetViolations;
+import gift.metric.StatementCountFilter;
+import gift.service.auth.AuthService;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {"statement-budget.expose-header=true", "statement-budget.record-violations=true", "statement-budget.endpoints[/api/members/login]=0"})
+@AutoConfigureMockMvc
+@Transactional
+class StatementBudgetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private AuthService authService;
+    @Autowired
+    private StatementBudgetViolations statementBudgetViolations;
+
+    @Test
+    @DisplayName("실행한 SQL 문 수를 응답 헤더로 돌려준다.")
+    void successGetStatementCountHeader() throws Exception {
+        //given
+        var token = authService.login(new LoginRequest("member@naver.com", "password")).token();
+        var getRequest = get("/api/products")
+                .header("Authorization", "Bearer " + token);
+        //when
+        var result = mockMvc.perform(getRequest);
+        //then
+        result.andExpect(status().isOk())
+                .andExpect(header().exists(StatementCountFilter.STATEMENT_COUNT_HEADER));
+    }
+
+    @Test
+    @DisplayName("브라우저가 다른 출처에서도 SQL 문 수 응답 헤더를 읽을 수 있다.")
+    void successExposeStatementCountHeaderWithCors() throws Exception {
+        //given
+        var token = authService.login(new LoginRequest("member@naver.com", "password")).token();
+        var getRequest = get("/api/products")
+                .header(HttpHeaders.ORIGIN, "http://localhost:3000")
+                .header("Authorization", "Bearer " + token);
+        //when
+        var result = mockMvc.perform(getRequest);
+        //then
+        result.andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS, containsString(StatementCountFilter.STATEMENT_COUNT_HEADER)));
+    }
+
+    @Test
+    @DisplayName("SQL 문 예산을 넘는 요청은 응답 헤더와 본문을 그대로 돌려주고, 테스트에서 검사할 수 있도록 기록된다.")
+    void successRecordRequestOverStatementBudget() throws Exception {
+        //given
+        statementBudgetViolations.clear();
+        var postRequest = post("/api/members/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new LoginRequest("member@naver.com", "password")));
+        //when
+        var result = mockMvc.perform(postRequest);
+        //then
+        result.andExpect(status().isOk())
+                .andExpect(header().exists(StatementCountFilter.STATEMENT_COUNT_HEADER));
+        Assertions.assertThat(result.andReturn().getResponse().getContentAsString()).isNotEmpty();
+        Assertions.assertThat(statementBudgetViolations.getViolations())
+                .anyMatch(violation -> violation.contains("/api/members/login"));
+    }
+}
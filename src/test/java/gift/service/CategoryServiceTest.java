@@ -1,7 +1,11 @@
 package gift.service;
 
 import gift.dto.category.CategoryRequest;
+import gift.dto.option.OptionRequest;
+import gift.dto.product.ProductAddRequest;
 import gift.exception.DuplicatedNameException;
+import gift.exception.NotFoundElementException;
+import jakarta.persistence.EntityManagerFactory;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -9,8 +13,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @SpringBootTest
 @Transactional
 class CategoryServiceTest {
@@ -18,6 +26,12 @@ class CategoryServiceTest {
     private final Pageable pageable = PageRequest.of(0, 10);
     @Autowired
     private CategoryService categoryService;
+    @Autowired
+    private ProductService productService;
+    @Autowired
+    private OptionService optionService;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
 
     @Test
     @DisplayName("정상 카테고리 추가하기")
@@ -79,4 +93,45 @@ class CategoryServiceTest {
 
         categoryService.deleteCategory(savedCategory.id());
     }
+
+    @Test
+    @DisplayName("카테고리를 삭제하면 포함된 상품과 옵션이 함께 삭제된다")
+    void successDeleteCategoryWithProducts() {
+        //given
+        var savedCategory = categoryService.addCategory(new CategoryRequest("삭제카테고리", "삭제설명", "#222222", "이미지"));
+        var productIds = new ArrayList<Long>();
+        for (var i = 0; i < 3; i++) {
+            var options = List.of(new OptionRequest("옵션" + i, 1000));
+            var productRequest = new ProductAddRequest("삭제상품" + i, 10000, "이미지 주소", savedCategory.id(), options);
+            productIds.add(productService.addProduct(productRequest).id());
+        }
+        //when
+        categoryService.deleteCategory(savedCategory.id());
+        //then
+        for (var productId : productIds) {
+            Assertions.assertThatThrownBy(() -> productService.getProduct(productId))
+                    .isInstanceOf(NotFoundElementException.class);
+            Assertions.assertThat(optionService.getOptions(productId)).isEmpty();
+        }
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("카테고리 목록은 스냅샷에서 쿼리 없이 조회되고, 추가가 커밋되면 다시 만들어진다")
+    void successGetCategoriesFromSnapshot() {
+        //given
+        var snapshotCategories = categoryService.getCategories();
+        try (var statistics = HibernateStatistics.record(entityManagerFactory)) {
+            Assertions.assertThat(categoryService.getCategories()).isSameAs(snapshotCategories);
+            Assertions.assertThat(statistics.getPrepareStatementCount()).isEqualTo(0);
+            //when
+            var savedCategory = categoryService.addCategory(new CategoryRequest("스냅샷카테고리", "스냅샷설명", "#333333", "이미지"));
+            //then
+            var categories = categoryService.getCategories();
+            Assertions.assertThat(categories.size()).isEqualTo(snapshotCategories.size() + 1);
+
+            categoryService.deleteCategory(savedCategory.id());
+            Assertions.assertThat(categoryService.getCategories().size()).isEqualTo(snapshotCategories.size());
+        }
+    }
 }
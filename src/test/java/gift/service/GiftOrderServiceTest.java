@@ -0,0 +1,72 @@
+package gift.service;
+
+import gift.dto.giftorder.GiftOrderRequest;
+import gift.dto.giftorder.GiftOrderResponse;
+import gift.dto.option.OptionRequest;
+import gift.model.Member;
+import gift.model.OauthType;
+import gift.repository.MemberRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@SpringBootTest
+@Transactional
+class GiftOrderServiceTest {
+
+    @Autowired
+    private GiftOrderService giftOrderService;
+    @Autowired
+    private OptionService optionService;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("주문 목록은 상품, 옵션 정보를 포함해 한 번의 쿼리로 조회된다")
+    void successGetGiftOrdersWithSingleQuery() {
+        //given
+        var option = optionService.addOption(1L, new OptionRequest("주문목록옵션", 100));
+        for (int i = 0; i < 10; i++) {
+            optionService.orderOption(1L, new GiftOrderRequest(option.id(), 1, "주문 목록 " + i, 0));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        try (var statistics = HibernateStatistics.record(entityManagerFactory)) {
+            //when
+            var orders = giftOrderService.getGiftOrders(1L, PageRequest.of(0, 10));
+            //then
+            Assertions.assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+            Assertions.assertThat(orders.size()).isEqualTo(10);
+            Assertions.assertThat(orders.get(0).productBasicInformation().id()).isEqualTo(1L);
+            Assertions.assertThat(orders).extracting(GiftOrderResponse::id).isSortedAccordingTo((a, b) -> Long.compare(b, a));
+        }
+    }
+
+    @Test
+    @DisplayName("주문 목록은 요청한 정렬 기준으로 조회된다")
+    void successGetGiftOrdersWithRequestedSort() {
+        //given
+        var member = memberRepository.save(new Member("주문정렬", "ordersort@naver.com", OauthType.KAKAO));
+        var option = optionService.addOption(1L, new OptionRequest("주문정렬옵션", 100));
+        for (var quantity : List.of(3, 1, 2)) {
+            optionService.orderOption(member.getId(), new GiftOrderRequest(option.id(), quantity, "주문 정렬", 0));
+        }
+        //when
+        var orders = giftOrderService.getGiftOrders(member.getId(), PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "quantity")));
+        //then
+        Assertions.assertThat(orders).extracting(GiftOrderResponse::quantity).containsExactly(1, 2, 3);
+    }
+}
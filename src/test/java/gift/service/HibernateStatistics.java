@@ -0,0 +1,42 @@
+package gift.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+/**
+ * 테스트 동안 Hibernate 통계를 켜고 초기화하며, 닫으면 통계 수집을 이전 설정으로 되돌린다.
+ */
+class HibernateStatistics implements AutoCloseable {
+
+    private final Statistics statistics;
+    private final boolean previouslyEnabled;
+
+    private HibernateStatistics(Statistics statistics) {
+        this.statistics = statistics;
+        this.previouslyEnabled = statistics.isStatisticsEnabled();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    static HibernateStatistics record(EntityManagerFactory entityManagerFactory) {
+        return new HibernateStatistics(entityManagerFactory.unwrap(SessionFactory.class).getStatistics());
+    }
+
+    long getPrepareStatementCount() {
+        return statistics.getPrepareStatementCount();
+    }
+
+    long getEntityInsertCount() {
+        return statistics.getEntityInsertCount();
+    }
+
+    void clear() {
+        statistics.clear();
+    }
+
+    @Override
+    public void close() {
+        statistics.setStatisticsEnabled(previouslyEnabled);
+    }
+}
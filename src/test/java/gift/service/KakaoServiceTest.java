@@ -0,0 +1,74 @@
+package gift.service;
+
+import gift.client.KakaoApiClient;
+import gift.dto.kakao.KakaoTokenResponse;
+import gift.model.Member;
+import gift.model.OauthToken;
+import gift.model.OauthType;
+import gift.repository.MemberRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@SpringBootTest
+@Transactional
+class KakaoServiceTest {
+
+    @Autowired
+    private KakaoService kakaoService;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @MockBean
+    private KakaoApiClient kakaoApiClient;
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("카카오 로그인으로 저장한 토큰은 메모리에 기록되어 주문 알림 전송 시 oauth_token 을 조회하지 않고, 다시 로그인하면 한 번의 쿼리로 갱신된다.")
+    void successSendOrderMessageWithCachedKakaoCredential() {
+        //given
+        var member = memberRepository.save(new Member("토큰캐시", "tokencache@naver.com", OauthType.KAKAO));
+        kakaoService.saveKakaoToken(member, new KakaoTokenResponse("FIRST", 21600, "REFRESHTOKEN", 5184000));
+        try (var statistics = HibernateStatistics.record(entityManagerFactory)) {
+            //when
+            kakaoService.sendOrderResponseWithKakaoMessage(member.getId(), List.of());
+            var sendStatementCount = statistics.getPrepareStatementCount();
+            statistics.clear();
+            kakaoService.saveKakaoToken(member, new KakaoTokenResponse("SECOND", 21600, "REFRESHTOKEN", 5184000));
+            var loginStatementCount = statistics.getPrepareStatementCount();
+            kakaoService.sendOrderResponseWithKakaoMessage(member.getId(), List.of());
+            //then
+            Assertions.assertThat(sendStatementCount).isEqualTo(0);
+            Assertions.assertThat(loginStatementCount).isEqualTo(1);
+            Mockito.verify(kakaoApiClient).sendSelfMessageOrder("FIRST", List.of());
+            Mockito.verify(kakaoApiClient).sendSelfMessageOrder("SECOND", List.of());
+            Mockito.verify(kakaoApiClient, Mockito.never()).getRefreshedTokenResponse(Mockito.anyString());
+
+            kakaoService.deleteByMemberId(member.getId());
+            memberRepository.deleteById(member.getId());
+        }
+    }
+
+    @Test
+    @DisplayName("갱신된 카카오 액세스 토큰은 최초 발급 시각이 아니라 갱신 시각부터 만료 시간을 계산한다.")
+    void successCalculateExpiryFromLastRefresh() {
+        //given
+        var member = memberRepository.save(new Member("토큰만료", "tokenexpiry@naver.com", OauthType.KAKAO));
+        var oauthToken = new OauthToken(member, OauthType.KAKAO, "EXPIRED", 0, "REFRESHTOKEN", 5184000);
+        //when
+        oauthToken.updateToken("REFRESHED", 21600, null, null);
+        //then
+        Assertions.assertThat(oauthToken.canUseAccessToken()).isTrue();
+        Assertions.assertThat(oauthToken.canUseRefreshToken()).isTrue();
+    }
+}
@@ -0,0 +1,127 @@
+package gift.service;
+
+import gift.client.KakaoApiClient;
+import gift.config.properties.KakaoTokenProperties;
+import gift.dto.kakao.KakaoTokenResponse;
+import gift.model.Member;
+import gift.model.OauthToken;
+import gift.model.OauthType;
+import gift.repository.MemberRepository;
+import gift.repository.OauthTokenRepository;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.ArgumentMatchers.any;
+
+@SpringBootTest
+@Transactional
+public class KakaoTokenRefresherTest {
+
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private OauthTokenRepository oauthTokenRepository;
+    @Autowired
+    private KakaoTokenProperties kakaoTokenProperties;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    private final KakaoApiClient kakaoApiClient = Mockito.mock(KakaoApiClient.class);
+    private final AtomicInteger refreshCount = new AtomicInteger();
+    private KakaoCredentialCache kakaoCredentialCache;
+    private KakaoTokenRefresher kakaoTokenRefresher;
+
+    @BeforeEach
+    void mockKakaoApiClientSetUp() {
+        kakaoCredentialCache = new KakaoCredentialCache(kakaoTokenProperties);
+        kakaoTokenRefresher = new KakaoTokenRefresher(kakaoApiClient, oauthTokenRepository, kakaoCredentialCache, kakaoTokenProperties, transactionManager);
+        Mockito.when(kakaoApiClient.getRefreshedTokenResponse(any(String.class))).thenAnswer(invocation -> {
+            refreshCount.incrementAndGet();
+            Thread.sleep(200);
+            return new KakaoTokenResponse("REFRESHED", 21600, null, null);
+        });
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("같은 회원의 만료된 카카오 토큰 갱신이 동시에 요청되면 카카오 API 는 한 번만 호출되고 모든 요청이 갱신된 토큰을 받는다.")
+    void successCoalesceConcurrentRefreshes() throws Exception {
+        //given
+        var member = memberRepository.save(new Member("싱글플라이트", "singleflight@naver.com", OauthType.KAKAO));
+        var oauthToken = oauthTokenRepository.save(new OauthToken(member, OauthType.KAKAO, "EXPIRED", 0, "REFRESHTOKEN", 600000));
+        var kakaoCredential = KakaoCredential.from(oauthToken);
+        var executorService = Executors.newFixedThreadPool(10);
+        Callable<String> request = () -> kakaoTokenRefresher.getAccessToken(member.getId(), kakaoCredential);
+        //when
+        var accessTokens = executorService.invokeAll(Collections.nCopies(10, request))
+                .stream()
+                .map(this::getResult)
+                .toList();
+        executorService.shutdown();
+        //then
+        Assertions.assertThat(refreshCount.get()).isEqualTo(1);
+        Assertions.assertThat(accessTokens).containsOnly("REFRESHED");
+        Assertions.assertThat(kakaoTokenRefresher.getAccessToken(member.getId(), kakaoCredential)).isEqualTo("REFRESHED");
+        Assertions.assertThat(refreshCount.get()).isEqualTo(1);
+        Assertions.assertThat(oauthTokenRepository.findByMemberIdAndOauthType(member.getId(), OauthType.KAKAO).get().getAccessToken()).isEqualTo("REFRESHED");
+
+        oauthTokenRepository.delete(oauthToken);
+        memberRepository.deleteById(member.getId());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("최근에 사용된 카카오 토큰은 만료 직전에 미리 갱신되어 이후 요청이 갱신을 기다리지 않는다.")
+    void successRefreshExpiringTokenInBackground() {
+        //given
+        var member = memberRepository.save(new Member("미리갱신", "proactiverefresh@naver.com", OauthType.KAKAO));
+        var oauthToken = oauthTokenRepository.save(new OauthToken(member, OauthType.KAKAO, "EXPIRING", 60, "REFRESHTOKEN", 600000));
+        kakaoCredentialCache.put(member.getId(), KakaoCredential.from(oauthToken));
+        Assertions.assertThat(kakaoTokenRefresher.getAccessToken(member.getId(), KakaoCredential.from(oauthToken))).isEqualTo("EXPIRING");
+        //when
+        kakaoTokenRefresher.refreshExpiringTokens();
+        //then
+        Assertions.assertThat(refreshCount.get()).isEqualTo(1);
+        Assertions.assertThat(kakaoTokenRefresher.getAccessToken(member.getId(), kakaoCredentialCache.find(member.getId()).get())).isEqualTo("REFRESHED");
+        Assertions.assertThat(refreshCount.get()).isEqualTo(1);
+
+        oauthTokenRepository.delete(oauthToken);
+        memberRepository.deleteById(member.getId());
+    }
+
+    private String getResult(Future<String> future) {
+        try {
+            return future.get();
+        } catch (Exception exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("리프레시 토큰이 만료된 카카오 토큰은 메모리에 보관하지 않는다.")
+    void successExpireCredentialAtRefreshTokenExpiry() {
+        //given
+        var now = LocalDateTime.now();
+        var kakaoCredential = new KakaoCredential("ACCESS", now.minusHours(1), "REFRESH", now.minusSeconds(1));
+        //when
+        kakaoCredentialCache.put(1L, kakaoCredential);
+        //then
+        Assertions.assertThat(kakaoCredentialCache.find(1L)).isEmpty();
+        Assertions.assertThat(kakaoCredentialCache.contains(1L)).isFalse();
+    }
+}
@@ -0,0 +1,79 @@
+package gift.service;
+
+import gift.dto.auth.RegisterRequest;
+import gift.dto.giftorder.GiftOrderRequest;
+import gift.dto.option.OptionRequest;
+import gift.dto.wishproduct.WishProductRequest;
+import gift.repository.GiftOrderRepository;
+import gift.repository.MemberRepository;
+import gift.repository.WishProductRepository;
+import gift.service.auth.AuthService;
+import gift.service.auth.JwtProvider;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest(properties = "deletion.async-member-purge=false")
+@Transactional
+class MemberDataPurgerTest {
+
+    private final Pageable pageable = PageRequest.of(0, 10);
+    @Autowired
+    private MemberDataPurger memberDataPurger;
+    @Autowired
+    private MemberService memberService;
+    @Autowired
+    private AuthService authService;
+    @Autowired
+    private JwtProvider jwtProvider;
+    @Autowired
+    private OptionService optionService;
+    @Autowired
+    private WishProductService wishProductService;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private GiftOrderRepository giftOrderRepository;
+    @Autowired
+    private WishProductRepository wishProductRepository;
+
+    @Test
+    @DisplayName("백그라운드 정리를 끄면 회원 탈퇴와 같은 트랜잭션에서 주문과 위시 리스트가 삭제된다")
+    void successPurgeMemberDataInline() {
+        //given
+        var memberId = addMemberWithOrderAndWishProducts("inlinepurge@naver.com");
+        //when
+        memberService.deleteMember(memberId);
+        //then
+        Assertions.assertThat(giftOrderRepository.findIdsByMemberId(memberId, pageable)).isEmpty();
+        Assertions.assertThat(wishProductRepository.findIdsByMemberId(memberId, pageable)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("탈퇴 처리된 회원에게 남은 주문과 위시 리스트는 이어서 삭제된다")
+    void successResumeDeletedMembers() {
+        //given
+        var memberId = addMemberWithOrderAndWishProducts("resumepurge@naver.com");
+        memberRepository.deleteById(memberId);
+        //when
+        memberDataPurger.resumeDeletedMembers();
+        //then
+        Assertions.assertThat(giftOrderRepository.findIdsByMemberId(memberId, pageable)).isEmpty();
+        Assertions.assertThat(wishProductRepository.findIdsByMemberId(memberId, pageable)).isEmpty();
+    }
+
+    private Long addMemberWithOrderAndWishProducts(String email) {
+        var auth = authService.register(new RegisterRequest("purge", email, "testPassword"));
+        var memberId = jwtProvider.getMemberIdWithToken(auth.token());
+        var option = optionService.addOption(1L, new OptionRequest("정리옵션", 10));
+        optionService.orderOption(memberId, new GiftOrderRequest(option.id(), 1, "정리 테스트", 0));
+        wishProductService.addWishProduct(new WishProductRequest(2L), memberId);
+        wishProductService.addWishProduct(new WishProductRequest(3L), memberId);
+        return memberId;
+    }
+}
@@ -0,0 +1,156 @@
+package gift.service;
+
+import gift.dto.auth.RegisterRequest;
+import gift.exception.BadRequestException;
+import gift.model.MemberPoint;
+import gift.repository.MemberPointRepository;
+import gift.repository.MemberRepository;
+import gift.service.auth.AuthService;
+import gift.service.auth.JwtProvider;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@SpringBootTest
+@Transactional
+class MemberPointServiceTest {
+
+    @Autowired
+    private MemberPointService memberPointService;
+    @Autowired
+    private MemberPointRepository memberPointRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private MemberService memberService;
+    @Autowired
+    private AuthService authService;
+    @Autowired
+    private JwtProvider jwtProvider;
+
+    @Test
+    @DisplayName("포인트를 충전하면 잔액 테이블에 반영된다.")
+    void successAddPoint() {
+        //given
+        var beforePoint = memberPointService.getPoint(1L).point();
+        //when
+        memberPointService.addPoint(1L, 1000);
+        memberPointService.addPoint(1L, 500);
+        //then
+        Assertions.assertThat(memberPointService.getPoint(1L).point()).isEqualTo(beforePoint + 1500);
+        Assertions.assertThat(memberPointRepository.findPointByMemberId(1L)).isEqualTo(beforePoint + 1500);
+    }
+
+    @Test
+    @DisplayName("원장과 잔액이 어긋나면 정합성 검사에서 원장 기준으로 잔액을 다시 계산한다.")
+    void successReconcilePoints() {
+        //given
+        memberPointService.addPoint(1L, 1000);
+        var member = memberRepository.findById(1L).get();
+        memberPointRepository.save(new MemberPoint(member, 300));
+        //when
+        memberPointService.reconcilePoints();
+        //then
+        Assertions.assertThat(memberPointService.getPoint(1L).point()).isEqualTo(memberPointRepository.findPointByMemberId(1L));
+    }
+
+    @Test
+    @DisplayName("포인트 사용 시 잔액보다 많은 포인트를 사용하면 예외가 발생한다.")
+    void failSubtractPointOverBalance() {
+        //given
+        var point = memberPointService.getPoint(1L).point();
+        //when, then
+        Assertions.assertThatThrownBy(() -> memberPointService.subtractPoint(1L, point + 1)).isInstanceOf(BadRequestException.class);
+        Assertions.assertThat(memberPointService.getPoint(1L).point()).isEqualTo(point);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("동시성 테스트 - 한 이용자에게 4000개의 충전, 사용 요청을 동시에 보내도 최종 잔액이 정확하다.")
+    void concurrencyChargeAndSubtractTest() throws InterruptedException {
+        //given
+        int requestCount = 2000;
+        var memberId = registerMember("chargeconcurrency");
+        try {
+            memberPointService.addPoint(memberId, requestCount * 5);
+            var beforePoint = memberPointService.getPoint(memberId).point();
+            var executorService = Executors.newFixedThreadPool(10);
+            var countDownLatch = new CountDownLatch(requestCount * 2);
+            //when
+            for (int i = 0; i < requestCount; i++) {
+                executorService.execute(() -> {
+                    try {
+                        memberPointService.addPoint(memberId, 10);
+                    } finally {
+                        countDownLatch.countDown();
+                    }
+                });
+                executorService.execute(() -> {
+                    try {
+                        memberPointService.subtractPoint(memberId, 5);
+                    } finally {
+                        countDownLatch.countDown();
+                    }
+                });
+            }
+            countDownLatch.await();
+            executorService.shutdown();
+            //then
+            Assertions.assertThat(memberPointService.getPoint(memberId).point()).isEqualTo(beforePoint + requestCount * 10 - requestCount * 5);
+            Assertions.assertThat(memberPointRepository.findPointByMemberId(memberId)).isEqualTo(memberPointService.getPoint(memberId).point());
+        } finally {
+            memberService.deleteMember(memberId);
+        }
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("동시성 테스트 - 잔액보다 많은 사용 요청이 동시에 들어와도 잔액은 음수가 되지 않는다.")
+    void concurrencySubtractOverBalanceTest() throws InterruptedException {
+        //given
+        int requestCount = 1000;
+        var memberId = registerMember("subtractconcurrency");
+        try {
+            memberPointService.addPoint(memberId, 3000);
+            var successCount = new AtomicInteger();
+            var failCount = new AtomicInteger();
+            var executorService = Executors.newFixedThreadPool(10);
+            var countDownLatch = new CountDownLatch(requestCount);
+            //when
+            for (int i = 0; i < requestCount; i++) {
+                executorService.execute(() -> {
+                    try {
+                        memberPointService.subtractPoint(memberId, 7);
+                        successCount.incrementAndGet();
+                    } catch (BadRequestException exception) {
+                        failCount.incrementAndGet();
+                    } finally {
+                        countDownLatch.countDown();
+                    }
+                });
+            }
+            countDownLatch.await();
+            executorService.shutdown();
+            //then
+            Assertions.assertThat(successCount.get()).isEqualTo(3000 / 7);
+            Assertions.assertThat(failCount.get()).isEqualTo(requestCount - 3000 / 7);
+            Assertions.assertThat(memberPointService.getPoint(memberId).point()).isEqualTo(3000 % 7);
+        } finally {
+            memberService.deleteMember(memberId);
+        }
+    }
+
+    private Long registerMember(String emailPrefix) {
+        var email = emailPrefix + System.nanoTime() + "@naver.com";
+        var auth = authService.register(new RegisterRequest("포인트동시성", email, "testPassword"));
+        return jwtProvider.getMemberIdWithToken(auth.token());
+    }
+}
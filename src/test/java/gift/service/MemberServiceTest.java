@@ -2,16 +2,30 @@ package gift.service;
 
 import gift.dto.auth.LoginRequest;
 import gift.dto.auth.RegisterRequest;
+import gift.dto.auth.MemberPrincipal;
+import gift.dto.giftorder.GiftOrderRequest;
+import gift.dto.option.OptionRequest;
+import gift.dto.wishproduct.WishProductRequest;
 import gift.exception.InvalidLoginInfoException;
+import gift.model.MemberRole;
+import gift.repository.GiftOrderRepository;
+import gift.repository.WishProductRepository;
 import gift.service.auth.AuthService;
+import gift.service.auth.JwtPrincipalCache;
 import gift.service.auth.JwtProvider;
 import org.assertj.core.api.Assertions;
+import org.awaitility.Awaitility;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.transaction.TestTransaction;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+
 @SpringBootTest
 @Transactional
 public class MemberServiceTest {
@@ -22,6 +36,16 @@ public class MemberServiceTest {
     private MemberService memberService;
     @Autowired
     private JwtProvider jwtProvider;
+    @Autowired
+    private JwtPrincipalCache jwtPrincipalCache;
+    @Autowired
+    private OptionService optionService;
+    @Autowired
+    private WishProductService wishProductService;
+    @Autowired
+    private GiftOrderRepository giftOrderRepository;
+    @Autowired
+    private WishProductRepository wishProductRepository;
 
     @Test
     @DisplayName("회원 탈퇴하기 - 성공")
@@ -38,4 +62,57 @@ public class MemberServiceTest {
         Assertions.assertThatThrownBy(() -> authService.login(loginRequest))
                 .isInstanceOf(InvalidLoginInfoException.class);
     }
+
+    @Test
+    @DisplayName("회원이 탈퇴하면 캐시된 토큰 인증 정보가 커밋 후 제거된다")
+    void successInvalidatePrincipalWithDeleteMember() {
+        //given
+        var registerRequest = new RegisterRequest("role", "role@naver.com", "testPassword");
+        var auth = authService.register(registerRequest);
+        var verifiedToken = jwtProvider.verifyToken(auth.token());
+        var principal = MemberPrincipal.of(verifiedToken.memberId(), MemberRole.MEMBER, "role@naver.com", verifiedToken.expiresAt());
+        jwtPrincipalCache.put(auth.token(), principal, jwtPrincipalCache.getInvalidationVersion());
+        Assertions.assertThat(jwtPrincipalCache.get(auth.token())).isEqualTo(principal);
+        //when
+        memberService.deleteMember(verifiedToken.memberId());
+        Assertions.assertThat(jwtPrincipalCache.get(auth.token())).isEqualTo(principal);
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+        //then
+        Assertions.assertThat(jwtPrincipalCache.get(auth.token())).isNull();
+    }
+
+    @Test
+    @DisplayName("만료 시각이 지난 토큰 인증 정보는 캐시에서 조회되지 않는다")
+    void successExpirePrincipalAtTokenExpiry() {
+        //given
+        var principal = MemberPrincipal.of(1L, MemberRole.MEMBER, "member@naver.com", System.currentTimeMillis() - 1);
+        //when
+        jwtPrincipalCache.put("expired-token", principal, jwtPrincipalCache.getInvalidationVersion());
+        //then
+        Assertions.assertThat(jwtPrincipalCache.get("expired-token")).isNull();
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("회원 탈퇴 후 주문과 위시 리스트는 백그라운드에서 묶음 단위로 삭제된다")
+    void successPurgeMemberDataInBackground() {
+        //given
+        var auth = authService.register(new RegisterRequest("purge", "purge@naver.com", "testPassword"));
+        var memberId = jwtProvider.getMemberIdWithToken(auth.token());
+        var option = optionService.addOption(1L, new OptionRequest("탈퇴옵션", 10));
+        optionService.orderOption(memberId, new GiftOrderRequest(option.id(), 1, "탈퇴 테스트", 0));
+        wishProductService.addWishProduct(new WishProductRequest(2L), memberId);
+        wishProductService.addWishProduct(new WishProductRequest(3L), memberId);
+        var pageable = PageRequest.of(0, 10);
+        //when
+        memberService.deleteMember(memberId);
+        //then
+        Awaitility.await()
+                .atMost(Duration.ofSeconds(5))
+                .until(() -> giftOrderRepository.findIdsByMemberId(memberId, pageable).isEmpty()
+                        && wishProductRepository.findIdsByMemberId(memberId, pageable).isEmpty());
+
+        optionService.deleteOption(1L, option.id());
+    }
 }
@@ -4,15 +4,20 @@ import gift.dto.giftorder.GiftOrderRequest;
 import gift.dto.option.OptionRequest;
 import gift.exception.BadRequestException;
 import gift.exception.DuplicatedNameException;
+import gift.metric.OrderPhase;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 
 @SpringBootTest
@@ -21,6 +26,10 @@ class OptionServiceTest {
 
     @Autowired
     private OptionService optionService;
+    @Autowired
+    private OptionStockReserver optionStockReserver;
+    @Autowired
+    private MeterRegistry meterRegistry;
 
     @Test
     @DisplayName("정상 옵션 추가하기")
@@ -97,6 +106,62 @@ class OptionServiceTest {
         optionService.deleteOption(1L, savedOption.id());
     }
 
+    @Test
+    @DisplayName("옵션을 주문하면 주문 단계별 처리 시간이 기록되고, 재고가 부족한 주문은 재고 부족 거절 횟수로 기록된다.")
+    void successRecordOrderMetrics() {
+        //given
+        var savedOption = optionService.addOption(1L, new OptionRequest("지표옵션", 1));
+        var orderRequest = new GiftOrderRequest(savedOption.id(), 1, "hello", 0);
+        var rejectedCount = meterRegistry.counter("gift.order.stock.rejected").count();
+        //when
+        optionService.orderOption(1L, orderRequest);
+        Assertions.assertThatThrownBy(() -> optionService.orderOption(1L, orderRequest)).isInstanceOf(BadRequestException.class);
+        //then
+        for (var phase : OrderPhase.values()) {
+            Assertions.assertThat(meterRegistry.get("gift.order.phase").tag("phase", phase.getTag()).timer().count()).isPositive();
+        }
+        Assertions.assertThat(meterRegistry.counter("gift.order.stock.rejected").count()).isEqualTo(rejectedCount + 1);
+    }
+
+    @Test
+    @DisplayName("여러 옵션을 한 번에 주문하면 모든 옵션의 재고가 차감되고 주문이 생성된다.")
+    void successOrderOptions() {
+        //given
+        var firstOption = optionService.addOption(1L, new OptionRequest("일괄주문옵션1", 10));
+        var secondOption = optionService.addOption(1L, new OptionRequest("일괄주문옵션2", 10));
+        var orderRequests = List.of(
+                new GiftOrderRequest(firstOption.id(), 2, "hello", 0),
+                new GiftOrderRequest(secondOption.id(), 3, "hello", 0),
+                new GiftOrderRequest(firstOption.id(), 1, "hello", 0));
+        //when
+        var orders = optionService.orderOptions(1L, orderRequests);
+        //then
+        Assertions.assertThat(orders.size()).isEqualTo(3);
+        Assertions.assertThat(optionService.getOption(1L, firstOption.id()).quantity()).isEqualTo(7);
+        Assertions.assertThat(optionService.getOption(1L, secondOption.id()).quantity()).isEqualTo(7);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("여러 옵션을 한 번에 주문할 때 하나의 옵션이라도 재고가 부족하면 전체 주문이 취소된다.")
+    void failOrderOptionsWithInsufficientQuantity() {
+        //given
+        var enoughOption = optionService.addOption(1L, new OptionRequest("일괄주문충분옵션", 10));
+        var shortOption = optionService.addOption(1L, new OptionRequest("일괄주문부족옵션", 1));
+        var orderRequests = List.of(
+                new GiftOrderRequest(enoughOption.id(), 2, "hello", 0),
+                new GiftOrderRequest(shortOption.id(), 5, "hello", 0));
+        var rejectedCount = meterRegistry.counter("gift.order.stock.rejected").count();
+        //when, then
+        Assertions.assertThatThrownBy(() -> optionService.orderOptions(1L, orderRequests)).isInstanceOf(BadRequestException.class);
+        Assertions.assertThat(meterRegistry.counter("gift.order.stock.rejected").count()).isEqualTo(rejectedCount + 1);
+        Assertions.assertThat(optionService.getOption(1L, enoughOption.id()).quantity()).isEqualTo(10);
+        Assertions.assertThat(optionService.getOption(1L, shortOption.id()).quantity()).isEqualTo(1);
+
+        optionService.deleteOption(1L, enoughOption.id());
+        optionService.deleteOption(1L, shortOption.id());
+    }
+
     @Test
     @DisplayName("동시성 테스트 - 5개의 쓰레드풀에 500개의 요청을 보냈을 때에도 정상적으로 요청이 처리 된다.")
     public void concurrencyTest() throws InterruptedException {
@@ -124,4 +189,73 @@ class OptionServiceTest {
 
         Assertions.assertThat(option.quantity()).isEqualTo(9500);
     }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("동시성 테스트 - 재고보다 많은 주문이 동시에 들어와도 재고 수량만큼만 주문이 성공한다.")
+    public void concurrencyOrderOverQuantityTest() throws InterruptedException {
+        //given
+        var savedOption = optionService.addOption(1L, new OptionRequest("한정수량옵션", 100));
+        var orderRequest = new GiftOrderRequest(savedOption.id(), 1, "hello", 0);
+        int requestCount = 300;
+        var successCount = new AtomicInteger();
+        var failCount = new AtomicInteger();
+        var executorService = Executors.newFixedThreadPool(10);
+        var countDownLatch = new CountDownLatch(requestCount);
+        //when
+        for (int i = 0; i < requestCount; i++) {
+            executorService.execute(() -> {
+                try {
+                    optionService.orderOption(1L, orderRequest);
+                    successCount.incrementAndGet();
+                } catch (BadRequestException exception) {
+                    failCount.incrementAndGet();
+                } finally {
+                    countDownLatch.countDown();
+                }
+            });
+        }
+        countDownLatch.await();
+        executorService.shutdown();
+        //then
+        Assertions.assertThat(successCount.get()).isEqualTo(100);
+        Assertions.assertThat(failCount.get()).isEqualTo(requestCount - 100);
+        Assertions.assertThat(optionService.getOption(1L, savedOption.id()).quantity()).isEqualTo(0);
+
+        optionService.deleteOption(1L, savedOption.id());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("동시성 테스트 - 메모리 재고 예약을 사용하는 옵션은 판매량과 남은 재고의 합이 최초 재고와 같고, 초과 판매가 발생하지 않는다.")
+    public void concurrencyOrderHotOptionTest() throws InterruptedException {
+        //given
+        var savedOption = optionService.addOption(1L, new OptionRequest("핫딜옵션", 1000));
+        optionStockReserver.registerHotOption(savedOption.id());
+        var orderRequest = new GiftOrderRequest(savedOption.id(), 1, "hello", 0);
+        int requestCount = 1500;
+        var successCount = new AtomicInteger();
+        var executorService = Executors.newFixedThreadPool(10);
+        var countDownLatch = new CountDownLatch(requestCount);
+        //when
+        for (int i = 0; i < requestCount; i++) {
+            executorService.execute(() -> {
+                try {
+                    optionService.orderOption(1L, orderRequest);
+                    successCount.incrementAndGet();
+                } finally {
+                    countDownLatch.countDown();
+                }
+            });
+        }
+        countDownLatch.await();
+        executorService.shutdown();
+        optionStockReserver.returnReservations(savedOption.id());
+        //then
+        var remainQuantity = optionService.getOption(1L, savedOption.id()).quantity();
+        Assertions.assertThat(successCount.get()).isLessThanOrEqualTo(1000);
+        Assertions.assertThat(successCount.get() + remainQuantity).isEqualTo(1000);
+
+        optionService.deleteOption(1L, savedOption.id());
+    }
 }
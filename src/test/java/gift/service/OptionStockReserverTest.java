@@ -0,0 +1,71 @@
+package gift.service;
+
+import gift.config.properties.StockProperties;
+import gift.repository.OptionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+
+class OptionStockReserverTest {
+
+    private static final Long OPTION_ID = 1L;
+    private static final int CHUNK_SIZE = 100;
+
+    private final OptionRepository optionRepository = Mockito.mock(OptionRepository.class);
+    private final PlatformTransactionManager transactionManager = Mockito.mock(PlatformTransactionManager.class);
+    private final OptionStockReserver optionStockReserver = new OptionStockReserver(optionRepository, new StockProperties(List.of(), 1, CHUNK_SIZE, 60000L), transactionManager);
+
+    @BeforeEach
+    void fillStripedStock() {
+        Mockito.when(optionRepository.subtractQuantity(anyLong(), anyInt())).thenReturn(1);
+        optionStockReserver.registerHotOption(OPTION_ID);
+        optionStockReserver.reserve(OPTION_ID, 1);
+    }
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("재고 보관분이 버려진 뒤에 롤백된 주문의 예약 수량은 보관분으로 돌아오지 않는다.")
+    void successSkipRollbackReleaseAfterDiscard() {
+        //given
+        TransactionSynchronizationManager.initSynchronization();
+        optionStockReserver.reserve(OPTION_ID, 10);
+        var synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        optionStockReserver.discardReservations(OPTION_ID);
+        //when
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        //then
+        optionStockReserver.returnReservations(OPTION_ID);
+        Mockito.verify(optionRepository, Mockito.never()).addQuantity(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("예약 재고를 돌려놓는 트랜잭션이 실패하면 수량을 보관분에 되돌려 다음에 다시 돌려놓는다.")
+    void successRetryReturnReservationsAfterFailure() {
+        //given
+        Mockito.when(optionRepository.addQuantity(anyLong(), anyInt()))
+                .thenThrow(new IllegalStateException("데이터베이스 연결 종료"))
+                .thenReturn(1);
+        //when
+        optionStockReserver.returnReservations(OPTION_ID);
+        optionStockReserver.returnReservations(OPTION_ID);
+        //then
+        Mockito.verify(optionRepository, Mockito.times(2)).addQuantity(OPTION_ID, CHUNK_SIZE);
+    }
+}
@@ -0,0 +1,119 @@
+package gift.service;
+
+import com.sun.net.httpserver.HttpServer;
+import gift.dto.giftorder.GiftOrderRequest;
+import gift.dto.option.OptionRequest;
+import gift.model.NotificationStatus;
+import gift.model.OauthToken;
+import gift.model.OauthType;
+import gift.repository.MemberRepository;
+import gift.repository.OauthTokenRepository;
+import org.assertj.core.api.Assertions;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@SpringBootTest
+class OrderNotificationServiceTest {
+
+    private static final AtomicInteger responseStatus = new AtomicInteger(200);
+    private static final AtomicInteger requestCount = new AtomicInteger();
+    private static final HttpServer kakaoStubServer = startKakaoStubServer();
+
+    @Autowired
+    private OptionService optionService;
+    @Autowired
+    private OrderNotificationService orderNotificationService;
+    @Autowired
+    private KakaoService kakaoService;
+    @Autowired
+    private OauthTokenRepository oauthTokenRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @DynamicPropertySource
+    static void notificationProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> "jdbc:h2:mem:notification;MODE=MYSQL;DB_CLOSE_DELAY=-1");
+        registry.add("kakao.api-base-uri", () -> "http://localhost:" + kakaoStubServer.getAddress().getPort());
+        registry.add("notification.dispatch-interval", () -> "100");
+        registry.add("notification.backoff", () -> "50");
+        registry.add("notification.max-attempts", () -> "3");
+    }
+
+    @BeforeEach
+    void setUp() {
+        responseStatus.set(200);
+        requestCount.set(0);
+        var member = memberRepository.findById(1L).orElseThrow();
+        oauthTokenRepository.save(new OauthToken(member, OauthType.KAKAO, "accessToken", 3600, "refreshToken", 36000));
+    }
+
+    @AfterEach
+    void tearDown() {
+        kakaoService.deleteByMemberId(1L);
+    }
+
+    @Test
+    @DisplayName("주문을 하면 요청 스레드가 아닌 백그라운드에서 카카오 메시지가 전송된다")
+    void successSendOrderNotification() {
+        //given
+        var option = optionService.addOption(1L, new OptionRequest("알림옵션", 10));
+        var giftOrderRequest = new GiftOrderRequest(option.id(), 1, "알림 테스트", 0);
+        //when
+        var order = optionService.orderOption(1L, giftOrderRequest);
+        //then
+        Awaitility.await()
+                .atMost(Duration.ofSeconds(5))
+                .until(() -> orderNotificationService.getStatusByGiftOrderId(order.id()) == NotificationStatus.SENT);
+        Assertions.assertThat(requestCount.get()).isEqualTo(1);
+
+        optionService.deleteOption(1L, option.id());
+    }
+
+    @Test
+    @DisplayName("카카오 서버가 계속 실패하면 최대 시도 횟수만큼 재시도 후 실패 처리된다")
+    void failSendOrderNotificationAfterMaxAttempts() {
+        //given
+        responseStatus.set(500);
+        var option = optionService.addOption(1L, new OptionRequest("실패알림옵션", 10));
+        var giftOrderRequest = new GiftOrderRequest(option.id(), 1, "알림 실패 테스트", 0);
+        //when
+        var order = optionService.orderOption(1L, giftOrderRequest);
+        //then
+        Awaitility.await()
+                .atMost(Duration.ofSeconds(5))
+                .until(() -> orderNotificationService.getStatusByGiftOrderId(order.id()) == NotificationStatus.FAILED);
+        Assertions.assertThat(requestCount.get()).isEqualTo(3);
+
+        optionService.deleteOption(1L, option.id());
+    }
+
+    private static HttpServer startKakaoStubServer() {
+        try {
+            var server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.createContext("/v2/api/talk/memo/default/send", exchange -> {
+                requestCount.incrementAndGet();
+                var body = "{\"result_code\":0}".getBytes();
+                exchange.sendResponseHeaders(responseStatus.get(), body.length);
+                exchange.getResponseBody().write(body);
+                exchange.close();
+            });
+            server.start();
+            return server;
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package gift.service;
+
+import gift.config.properties.PointProperties;
+import gift.exception.ServiceUnavailableException;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+
+class PointChargeBatcherTest {
+
+    private final MemberPointService memberPointService = Mockito.mock(MemberPointService.class);
+    private final PointChargeBatcher pointChargeBatcher = new PointChargeBatcher(memberPointService, new PointProperties(10L, 500, 100L));
+
+    @Test
+    @DisplayName("충전이 제한 시간 안에 저장되지 않으면 503 예외로 실패하고, 이후 일괄 저장에서도 반영되지 않는다.")
+    void failChargeWithStalledFlush() {
+        //when, then
+        Assertions.assertThatThrownBy(() -> pointChargeBatcher.charge(1L, 1000)).isInstanceOf(ServiceUnavailableException.class);
+        pointChargeBatcher.flush();
+        Mockito.verify(memberPointService, Mockito.never()).addPoints(anyList());
+        Mockito.verify(memberPointService, Mockito.never()).addPoint(any(), any());
+    }
+
+    @Test
+    @DisplayName("종료되면 처리되지 않은 충전 요청을 실패시키고 이후 충전 요청을 거절한다.")
+    void failChargeAfterShutdown() throws Exception {
+        //given
+        Mockito.doThrow(new IllegalStateException("데이터베이스 연결 종료")).when(memberPointService).addPoints(anyList());
+        Mockito.doThrow(new IllegalStateException("데이터베이스 연결 종료")).when(memberPointService).addPoint(any(), any());
+        var pendingCharge = CompletableFuture.runAsync(() -> pointChargeBatcher.charge(1L, 1000));
+        //when
+        Thread.sleep(20);
+        pointChargeBatcher.shutdown();
+        //then
+        Assertions.assertThatThrownBy(pendingCharge::join).hasCauseInstanceOf(IllegalStateException.class);
+        Assertions.assertThatThrownBy(() -> pointChargeBatcher.charge(1L, 1000)).isInstanceOf(ServiceUnavailableException.class);
+    }
+}
@@ -0,0 +1,74 @@
+package gift.service;
+
+import gift.dto.category.CategoryRequest;
+import gift.dto.option.OptionRequest;
+import gift.dto.product.ProductAddRequest;
+import gift.exception.NotFoundElementException;
+import gift.repository.CategoryRepository;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@SpringBootTest(properties = "deletion.chunk-size=1")
+class ProductCascadeDeleterTest {
+
+    @Autowired
+    private ProductCascadeDeleter productCascadeDeleter;
+    @Autowired
+    private CategoryService categoryService;
+    @Autowired
+    private ProductService productService;
+    @Autowired
+    private OptionService optionService;
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Test
+    @DisplayName("카테고리를 삭제하면 상품을 하나씩 나누어 커밋해도 모든 상품과 옵션이 삭제된다")
+    void successDeleteCategoryInChunks() {
+        //given
+        var categoryId = categoryService.addCategory(new CategoryRequest("묶음삭제카테고리", "삭제설명", "#444444", "이미지")).id();
+        var productIds = addProducts(categoryId, "묶음삭제상품");
+        //when
+        categoryService.deleteCategory(categoryId);
+        //then
+        Assertions.assertThat(categoryRepository.existsById(categoryId)).isFalse();
+        assertProductsDeleted(productIds);
+    }
+
+    @Test
+    @DisplayName("삭제 표시된 카테고리에 남은 상품은 이어서 삭제된다")
+    void successResumeDeletedCategories() {
+        //given
+        var categoryId = categoryService.addCategory(new CategoryRequest("재개삭제카테고리", "삭제설명", "#555555", "이미지")).id();
+        var productIds = addProducts(categoryId, "재개삭제상품");
+        categoryRepository.deleteById(categoryId);
+        //when
+        productCascadeDeleter.resumeDeletedCategories();
+        //then
+        assertProductsDeleted(productIds);
+    }
+
+    private List<Long> addProducts(Long categoryId, String name) {
+        var productIds = new ArrayList<Long>();
+        for (var i = 0; i < 3; i++) {
+            var options = List.of(new OptionRequest("옵션" + i, 1000));
+            var productRequest = new ProductAddRequest(name + i, 10000, "이미지 주소", categoryId, options);
+            productIds.add(productService.addProduct(productRequest).id());
+        }
+        return productIds;
+    }
+
+    private void assertProductsDeleted(List<Long> productIds) {
+        for (var productId : productIds) {
+            Assertions.assertThatThrownBy(() -> productService.getProduct(productId))
+                    .isInstanceOf(NotFoundElementException.class);
+            Assertions.assertThat(optionService.getOptions(productId)).isEmpty();
+        }
+    }
+}
@@ -4,11 +4,15 @@ import gift.dto.option.OptionRequest;
 import gift.dto.product.ProductAddRequest;
 import gift.dto.product.ProductUpdateRequest;
 import gift.exception.InvalidProductNameWithKAKAOException;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
@@ -19,6 +23,12 @@ class ProductServiceTest {
 
     @Autowired
     private ProductService productService;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private EntityManager entityManager;
 
     @Test
     @DisplayName("정상 상품 추가하기")
@@ -69,4 +79,53 @@ class ProductServiceTest {
 
         productService.deleteProduct(id);
     }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("캐시된 상품은 수정이 커밋되면 무효화되어 변경된 정보로 조회된다")
+    void successInvalidateCachedProductAfterUpdate() {
+        //given
+        var options = new ArrayList<OptionRequest>();
+        options.add(new OptionRequest("캐시옵션", 1000));
+        var savedProduct = productService.addProduct(new ProductAddRequest("캐시상품", 10000, "이미지 주소", 1L, options));
+        productService.getProduct(savedProduct.id());
+        var hitCount = getProductCacheHitCount();
+        productService.getProduct(savedProduct.id());
+        Assertions.assertThat(getProductCacheHitCount()).isEqualTo(hitCount + 1);
+        //when
+        productService.updateProduct(savedProduct.id(), new ProductUpdateRequest("수정된캐시상품", 20000, "이미지 주소", 1L));
+        //then
+        var product = productService.getProduct(savedProduct.id());
+        Assertions.assertThat(product.name()).isEqualTo("수정된캐시상품");
+        Assertions.assertThat(product.price()).isEqualTo(20000);
+
+        productService.deleteProduct(savedProduct.id());
+    }
+
+    @Test
+    @DisplayName("상품 옵션 100개는 미리 할당받은 id 로 묶어서 삽입된다")
+    void successAddProductWithBatchedOptions() {
+        //given
+        var options = new ArrayList<OptionRequest>();
+        for (var i = 0; i < 100; i++) {
+            options.add(new OptionRequest("배치옵션" + i, 1000));
+        }
+        var productRequest = new ProductAddRequest("배치상품", 10000, "이미지 주소", 1L, options);
+        try (var statistics = HibernateStatistics.record(entityManagerFactory)) {
+            //when
+            productService.addProduct(productRequest);
+            entityManager.flush();
+            //then
+            Assertions.assertThat(statistics.getEntityInsertCount()).isEqualTo(101);
+            Assertions.assertThat(statistics.getPrepareStatementCount()).isLessThan(10);
+        }
+    }
+
+    private Double getProductCacheHitCount() {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", "product")
+                .tag("result", "hit")
+                .functionCounter()
+                .count();
+    }
 }
@@ -1,14 +1,18 @@
 package gift.service;
 
 import gift.dto.wishproduct.WishProductRequest;
+import gift.dto.wishproduct.WishProductResponse;
 import gift.exception.AlreadyExistsException;
 import gift.exception.NotFoundElementException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.transaction.annotation.Transactional;
 
 @SpringBootTest
@@ -17,6 +21,10 @@ class WishProductServiceTest {
 
     @Autowired
     private WishProductService wishProductService;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
 
     @Test
     @DisplayName("위시 리스트 상품 추가하기")
@@ -100,4 +108,42 @@ class WishProductServiceTest {
         wishProductService.deleteWishProduct(wishProduct1.id());
         wishProductService.deleteWishProduct(wishProduct2.id());
     }
+
+    @Test
+    @DisplayName("위시 리스트는 요청한 정렬 기준으로 조회된다")
+    void successGetWishProductsWithRequestedSort() {
+        //given
+        var wishProduct1 = wishProductService.addWishProduct(new WishProductRequest(1L), 1L);
+        var wishProduct2 = wishProductService.addWishProduct(new WishProductRequest(2L), 1L);
+        //when
+        var wishProducts = wishProductService.getWishProducts(1L, PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "id")));
+        //then
+        Assertions.assertThat(wishProducts).extracting(WishProductResponse::id).containsExactly(wishProduct1.id(), wishProduct2.id());
+
+        wishProductService.deleteWishProduct(wishProduct1.id());
+        wishProductService.deleteWishProduct(wishProduct2.id());
+    }
+
+    @Test
+    @DisplayName("위시 리스트는 상품 정보를 포함해 한 번의 쿼리로 조회된다")
+    void successGetWishProductsWithSingleQuery() {
+        //given
+        var wishProduct1 = wishProductService.addWishProduct(new WishProductRequest(1L), 1L);
+        var wishProduct2 = wishProductService.addWishProduct(new WishProductRequest(2L), 1L);
+        var wishProduct3 = wishProductService.addWishProduct(new WishProductRequest(3L), 1L);
+        entityManager.flush();
+        entityManager.clear();
+        try (var statistics = HibernateStatistics.record(entityManagerFactory)) {
+            //when
+            var wishProducts = wishProductService.getWishProducts(1L, PageRequest.of(0, 10));
+            //then
+            Assertions.assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(1);
+            Assertions.assertThat(wishProducts.size()).isEqualTo(3);
+            Assertions.assertThat(wishProducts.get(0).productBasicInformation().id()).isEqualTo(3L);
+
+            wishProductService.deleteWishProduct(wishProduct1.id());
+            wishProductService.deleteWishProduct(wishProduct2.id());
+            wishProductService.deleteWishProduct(wishProduct3.id());
+        }
+    }
 }
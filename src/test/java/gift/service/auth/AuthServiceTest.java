@@ -9,10 +9,10 @@ import gift.dto.kakao.KakaoTokenResponse;
 import gift.exception.DuplicatedEmailException;
 import gift.exception.InvalidLoginInfoException;
 import gift.model.Member;
-import gift.model.OauthToken;
 import gift.model.OauthType;
 import gift.repository.MemberRepository;
 import gift.service.KakaoService;
+import gift.service.MemberPointService;
 import gift.service.MemberService;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -24,6 +24,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 
 @SpringBootTest
 @Transactional
@@ -38,22 +39,22 @@ class AuthServiceTest {
     private MemberService memberService;
     @Autowired
     private JwtProvider jwtProvider;
+    @Autowired
+    private MemberPointService memberPointService;
     private KakaoService kakaoService = Mockito.mock(KakaoService.class);
 
     @BeforeEach
     void mockKakaoServiceSetUp() {
-        authService = new AuthService(memberRepository, kakaoService, jwtProvider);
+        authService = new AuthService(memberRepository, kakaoService, jwtProvider, memberPointService);
         Mockito.doNothing().when(kakaoService).saveKakaoToken(any(Long.class), any(String.class));
-        Mockito.doNothing().when(kakaoService).sendOrderResponseWithKakaoMessage(any(Long.class), any(GiftOrderResponse.class));
+        Mockito.doNothing().when(kakaoService).sendOrderResponseWithKakaoMessage(any(Long.class), anyList());
         Mockito.doNothing().when(kakaoService).deleteByMemberId(any(Long.class));
 
         var mockMember = new Member("test", "MOCK@naver.com", OauthType.KAKAO);
         var mockKakaoTokenResponse = new KakaoTokenResponse("ACCESSTOKEN", 10000, "REFRESHTOKEN", 600000);
-        var mockKakaoToken = new OauthToken(mockMember, OauthType.KAKAO, "ACCESSTOKEN", 10000, "REFRESHTOKEN", 600000);
         var mockKakaoAuthInformation = new KakaoAuthInformation("MOCK", "MOCK@naver.com");
 
-        Mockito.when(kakaoService.saveKakaoToken(any(Member.class), any(KakaoTokenResponse.class)))
-                .thenReturn(mockKakaoToken);
+        Mockito.doNothing().when(kakaoService).saveKakaoToken(any(Member.class), any(KakaoTokenResponse.class));
         Mockito.when(kakaoService.getKakaoTokenResponse(any(String.class)))
                 .thenReturn(mockKakaoTokenResponse);
         Mockito.when(kakaoService.getKakaoAuthInformation(any(KakaoTokenResponse.class)))
@@ -0,0 +1,69 @@
+package gift.service.auth;
+
+import gift.config.properties.JwtAlgorithm;
+import gift.config.properties.JwtProperties;
+import gift.model.Member;
+import io.jsonwebtoken.security.SignatureException;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+class JwtProviderTest {
+
+    private static final String SECRET_KEY = "jwt-provider-test-secret-key-jwt-provider-test";
+
+    @Test
+    @DisplayName("ES256 개인 키로 서명한 토큰을 공개 키만 가진 노드에서 검증하기")
+    void successVerifyES256TokenWithPublicKey() throws NoSuchAlgorithmException {
+        //given
+        var keyPair = KeyPairGenerator.getInstance("EC").generateKeyPair();
+        var privateKey = Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded());
+        var publicKey = Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded());
+        var signer = new JwtProvider(new JwtProperties(null, 60000L, 100, JwtAlgorithm.ES256, privateKey, publicKey));
+        var verifier = new JwtProvider(new JwtProperties(null, 60000L, 100, JwtAlgorithm.ES256, null, publicKey));
+        //when
+        var token = signer.generateToken(getMember(1L));
+        //then
+        Assertions.assertThat(verifier.getMemberIdWithToken(token)).isEqualTo(1L);
+        Assertions.assertThatThrownBy(() -> verifier.generateToken(getMember(1L)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("EdDSA 개인 키로 서명한 토큰 검증하기")
+    void successVerifyEdDSAToken() throws NoSuchAlgorithmException {
+        //given
+        var keyPair = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+        var privateKey = Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded());
+        var publicKey = Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded());
+        var jwtProvider = new JwtProvider(new JwtProperties(null, 60000L, 100, JwtAlgorithm.EDDSA, privateKey, publicKey));
+        //when
+        var token = jwtProvider.generateToken(getMember(2L));
+        //then
+        Assertions.assertThat(jwtProvider.verifyToken(token).memberId()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("다른 비밀 키로 서명된 토큰은 검증에 실패한다")
+    void failVerifyTokenWithOtherSecretKey() {
+        //given
+        var jwtProvider = new JwtProvider(new JwtProperties(SECRET_KEY, 60000L, 100, JwtAlgorithm.HS256, null, null));
+        var otherJwtProvider = new JwtProvider(new JwtProperties(SECRET_KEY + "-other", 60000L, 100, JwtAlgorithm.HS256, null, null));
+        //when
+        var token = otherJwtProvider.generateToken(getMember(1L));
+        //then
+        Assertions.assertThatThrownBy(() -> jwtProvider.getMemberIdWithToken(token))
+                .isInstanceOf(SignatureException.class);
+    }
+
+    private Member getMember(Long id) {
+        var member = new Member("test", "test@naver.com", "testPassword");
+        ReflectionTestUtils.setField(member, "id", id);
+        return member;
+    }
+}